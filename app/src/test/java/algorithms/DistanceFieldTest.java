@@ -0,0 +1,64 @@
+package algorithms;
+
+import model.Cell;
+import model.Maze;
+import org.junit.jupiter.api.Test;
+import utils.MazeLoader;
+
+import java.util.List;
+import java.util.Random;
+
+import static algorithms.PathAssertions.assertValidPath;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DistanceFieldTest {
+
+    @Test
+    void pathFromMatchesBfs() {
+        MazeSolver bfs = new BFSSolver();
+        Random random = new Random(14);
+        for (double density : new double[] {0.0, 0.25, 0.45}) {
+            Maze maze = MazeLoader.generateRandom(37, 51, density, 10);
+            DistanceField field = DistanceField.toEnd(maze);
+            int target = maze.getEndIndex();
+
+            // Sources quelconques : murs, cellules séparées de la cible ou cible elle-même
+            for (int i = 0; i < 80; i++) {
+                int source = i == 0 ? target : random.nextInt(maze.getCellCount());
+                String context = "densité " + density + ", depuis " + source;
+                List<Cell> expected = bfs.solve(maze, source, target);
+                List<Cell> path = field.pathFrom(source);
+                if (expected.isEmpty()) {
+                    assertTrue(path.isEmpty(), context + " : chemin trouvé alors qu'il n'en existe pas");
+                    assertEquals(-1, field.distance(source), context);
+                    assertEquals(-1, field.nextStep(source), context);
+                } else {
+                    assertValidPath(maze, path, source, target, context);
+                    assertEquals(expected.size(), path.size(), context);
+                    assertEquals(path.size() - 1, field.distance(source), context);
+                }
+            }
+        }
+    }
+
+    @Test
+    void wallSourceHasNoPath() {
+        Maze maze = MazeLoader.generateRandom(11, 11, 0.2, 3);
+        DistanceField field = DistanceField.toEnd(maze);
+
+        // Le bord est toujours muré
+        assertTrue(field.pathFrom(0).isEmpty());
+        assertEquals(-1, field.distance(0));
+        assertEquals(-1, field.nextStep(maze.getEndIndex()));
+    }
+
+    @Test
+    void rejectsInvalidTarget() {
+        Maze maze = MazeLoader.generateRandom(11, 11, 0.2, 3);
+        assertThrows(IllegalArgumentException.class, () -> DistanceField.toTarget(maze, 0));
+        assertThrows(IllegalArgumentException.class, () -> DistanceField.toTarget(maze, maze.getCellCount()));
+        assertThrows(IllegalArgumentException.class, () -> DistanceField.toEnd(new Maze(5, 5)));
+    }
+}
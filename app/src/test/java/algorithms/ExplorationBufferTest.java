@@ -0,0 +1,153 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExplorationBufferTest {
+
+    @Test
+    void roundsCapacityUpToPowerOfTwo() {
+        assertEquals(16, new ExplorationBuffer(16).capacity());
+        assertEquals(32, new ExplorationBuffer(17).capacity());
+        assertEquals(1, new ExplorationBuffer(1).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new ExplorationBuffer(0));
+    }
+
+    @Test
+    void drainsInPublicationOrder() {
+        ExplorationBuffer buffer = new ExplorationBuffer(8);
+        assertTrue(buffer.offer(new int[] {1, 2, 3}, 3));
+        assertTrue(buffer.offer(new int[] {4, 5, 9}, 2));
+        assertTrue(buffer.offer(new int[] {7}, 0));
+
+        int[] out = new int[4];
+        assertEquals(4, buffer.drain(out));
+        assertArrayEquals(new int[] {1, 2, 3, 4}, out);
+        assertEquals(1, buffer.drain(out));
+        assertEquals(5, out[0]);
+        assertEquals(0, buffer.drain(out));
+    }
+
+    @Test
+    void dropsWholeBatchWhenFull() {
+        ExplorationBuffer buffer = new ExplorationBuffer(16);
+        assertTrue(buffer.offer(sequence(0, 10), 10));
+        // Seules 6 cases sont libres : le lot entier est abandonné, rien n'est écrit
+        assertFalse(buffer.offer(sequence(100, 10), 10));
+        assertEquals(10, buffer.getDropped());
+        assertTrue(buffer.offer(sequence(10, 6), 6));
+
+        int[] out = new int[32];
+        assertEquals(16, buffer.drain(out));
+        for (int i = 0; i < 16; i++) {
+            assertEquals(i, out[i]);
+        }
+        // Une fois vidée, la file accepte de nouveau un lot, au-delà de sa fin circulaire
+        assertTrue(buffer.offer(sequence(20, 12), 12));
+        assertEquals(12, buffer.drain(out));
+        assertEquals(31, out[11]);
+        assertEquals(10, buffer.getDropped());
+    }
+
+    @Test
+    void dropsBatchLargerThanCapacity() {
+        ExplorationBuffer buffer = new ExplorationBuffer(8);
+        assertFalse(buffer.offer(sequence(0, 9), 9));
+        assertEquals(9, buffer.getDropped());
+        assertEquals(0, buffer.drain(new int[16]));
+        assertTrue(buffer.offer(sequence(0, 8), 8));
+    }
+
+    @Test
+    void concurrentProducersLoseNothingButDroppedBatches() throws InterruptedException {
+        int producers = 4;
+        int batches = 20_000;
+        int batchSize = 7;
+        ExplorationBuffer buffer = new ExplorationBuffer(4096);
+        CountDownLatch go = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger(producers);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                int[] batch = new int[batchSize];
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                // Valeur : producteur, numéro de lot, position dans le lot
+                for (int b = 0; b < batches; b++) {
+                    for (int i = 0; i < batchSize; i++) {
+                        batch[i] = (producer << 28) | (b << 3) | i;
+                    }
+                    buffer.offer(batch, batchSize);
+                }
+                running.decrementAndGet();
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        // received[producteur][lot] : nombre de cellules reçues de ce lot
+        int[][] received = new int[producers][batches];
+        int[] lastBatch = new int[producers];
+        Arrays.fill(lastBatch, -1);
+        int[] out = new int[64];
+        long total = 0;
+        go.countDown();
+        while (true) {
+            boolean finished = running.get() == 0;
+            int count = buffer.drain(out);
+            for (int i = 0; i < count; i++) {
+                int producer = out[i] >>> 28;
+                int batch = (out[i] >>> 3) & ((1 << 25) - 1);
+                int position = out[i] & 7;
+                // Les lots d'un même producteur arrivent dans l'ordre, chacun dans l'ordre de ses cellules
+                assertTrue(batch >= lastBatch[producer], "lot " + batch + " reçu après " + lastBatch[producer]);
+                assertEquals(received[producer][batch], position, "cellule perdue ou en double");
+                lastBatch[producer] = batch;
+                received[producer][batch]++;
+            }
+            total += count;
+            if (finished && count == 0) {
+                break;
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        long droppedBatches = 0;
+        for (int[] producer : received) {
+            for (int count : producer) {
+                assertTrue(count == 0 || count == batchSize, "lot incomplet : " + count);
+                if (count == 0) {
+                    droppedBatches++;
+                }
+            }
+        }
+        assertEquals(droppedBatches * batchSize, buffer.getDropped());
+        assertEquals((long) producers * batches * batchSize, total + buffer.getDropped());
+    }
+
+    private static int[] sequence(int from, int count) {
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = from + i;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,72 @@
+package algorithms;
+
+import model.Cell;
+import model.Maze;
+import org.junit.jupiter.api.Test;
+import utils.MazeLoader;
+
+import java.util.List;
+import java.util.Random;
+
+import static algorithms.PathAssertions.assertValidPath;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Le LPA* doit rester exact quand le labyrinthe change entre deux résolutions.
+ */
+class LPAStarSolverTest {
+
+    @Test
+    void repairsPathAfterWallEdits() {
+        Maze maze = MazeLoader.generateRandom(31, 45, 0.25, 3);
+        LPAStarSolver lpa = new LPAStarSolver();
+        MazeSolver bfs = new BFSSolver();
+        Random random = new Random(11);
+        int start = maze.getStartIndex();
+        int end = maze.getEndIndex();
+
+        assertSameLength(maze, bfs.solve(maze), lpa.solve(maze), start, end, "première résolution");
+        for (int round = 0; round < 200; round++) {
+            // Quelques cases basculent entre mur et passage, jamais le départ ni l'arrivée
+            int edits = 1 + random.nextInt(4);
+            for (int i = 0; i < edits; i++) {
+                int index = random.nextInt(maze.getCellCount());
+                if (index != start && index != end) {
+                    maze.setCell(index, maze.isWalkable(index) ? Cell.CellType.WALL : Cell.CellType.PATH);
+                }
+            }
+            assertSameLength(maze, bfs.solve(maze), lpa.solve(maze), start, end, "tour " + round);
+        }
+        lpa.reset();
+    }
+
+    @Test
+    void restartsAfterManyEdits() {
+        Maze maze = MazeLoader.generateRandom(21, 21, 0.2, 5);
+        LPAStarSolver lpa = new LPAStarSolver();
+        lpa.solve(maze);
+
+        // Au-delà du seuil de modifications, le solveur repart de zéro : le résultat doit rester juste
+        Random random = new Random(2);
+        for (int i = 0; i < maze.getCellCount() / 2; i++) {
+            int index = random.nextInt(maze.getCellCount());
+            if (index != maze.getStartIndex() && index != maze.getEndIndex()) {
+                maze.setCell(index, random.nextBoolean() ? Cell.CellType.WALL : Cell.CellType.PATH);
+            }
+        }
+        assertSameLength(maze, new BFSSolver().solve(maze), lpa.solve(maze),
+                maze.getStartIndex(), maze.getEndIndex(), "après réinitialisation");
+        lpa.reset();
+    }
+
+    private static void assertSameLength(Maze maze, List<Cell> expected, List<Cell> actual,
+                                         int start, int end, String context) {
+        if (expected.isEmpty()) {
+            assertTrue(actual.isEmpty(), context + " : chemin trouvé alors qu'il n'en existe pas");
+            return;
+        }
+        assertValidPath(maze, actual, start, end, context);
+        assertEquals(expected.size(), actual.size(), context + " : chemin plus long que le BFS");
+    }
+}
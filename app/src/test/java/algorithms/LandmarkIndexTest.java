@@ -0,0 +1,111 @@
+package algorithms;
+
+import model.Cell;
+import model.Maze;
+import org.junit.jupiter.api.Test;
+import utils.MazeLoader;
+
+import java.util.List;
+import java.util.Random;
+
+import static algorithms.PathAssertions.assertValidPath;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Les bornes des repères ne doivent jamais dépasser la distance réelle, sans quoi l'A* guidé
+ * par l'index perdrait les plus courts chemins.
+ */
+class LandmarkIndexTest {
+    private static final double[] DENSITIES = {0.0, 0.2, 0.4, 0.5};
+    private static final int PAIRS = 60;
+
+    @Test
+    void lowerBoundNeverExceedsBfsDistance() {
+        Random random = new Random(31);
+        for (double density : DENSITIES) {
+            Maze maze = MazeLoader.generateRandom(41, 53, density, 2);
+            LandmarkIndex index = LandmarkIndex.build(maze);
+            for (int i = 0; i < PAIRS; i++) {
+                int a = randomWalkable(maze, random);
+                int[] distance = Distances.breadthFirst(maze, a);
+                int b = randomWalkable(maze, random);
+                String context = "densité " + density + ", " + a + " -> " + b;
+                if (distance[b] == Distances.UNREACHABLE) {
+                    continue; // Toute borne est admissible entre deux cellules séparées
+                }
+                int bound = index.lowerBound(a, b);
+                assertTrue(bound <= distance[b], context + " : borne " + bound + " > " + distance[b]);
+                assertTrue(index.estimate(maze, a, b) <= distance[b], context + " : estimation trop grande");
+            }
+        }
+    }
+
+    @Test
+    void provesDisconnectedCells() {
+        // Deux moitiés séparées par une colonne de murs : les repères sont dans celle du départ
+        Maze maze = split(21, 31);
+        LandmarkIndex index = LandmarkIndex.build(maze);
+        int left = maze.index(10, 5);
+        int right = maze.index(10, 25);
+
+        assertEquals(Integer.MAX_VALUE, index.lowerBound(left, right));
+        assertEquals(Integer.MAX_VALUE, index.lowerBound(right, left));
+        assertEquals(maze.getCellCount(), index.estimate(maze, left, right));
+        // Deux cellules hors de la composante des repères : rien n'est prouvé
+        assertNotEquals(Integer.MAX_VALUE, index.lowerBound(right, maze.index(5, 28)));
+    }
+
+    @Test
+    void guidedAStarMatchesBfs() {
+        MazeSolver bfs = new BFSSolver();
+        Random random = new Random(8);
+        for (double density : DENSITIES) {
+            Maze maze = MazeLoader.generateRandom(41, 53, density, 4);
+            checkPairs(maze, bfs, new AStarSolver(LandmarkIndex.build(maze, 4)), random, "densité " + density);
+        }
+        Maze split = split(21, 31);
+        checkPairs(split, bfs, new AStarSolver(LandmarkIndex.build(split)), random, "moitiés séparées");
+    }
+
+    // Paires quelconques, dont des cellules murées ou inaccessibles : les deux solveurs doivent s'accorder
+    private static void checkPairs(Maze maze, MazeSolver bfs, MazeSolver alt, Random random, String name) {
+        for (int i = 0; i < PAIRS; i++) {
+            int start = random.nextInt(maze.getCellCount());
+            int end = random.nextInt(maze.getCellCount());
+            String context = name + ", " + start + " -> " + end;
+            List<Cell> expected = bfs.solve(maze, start, end);
+            List<Cell> actual = alt.solve(maze, start, end);
+            if (expected.isEmpty()) {
+                assertTrue(actual.isEmpty(), context + " : chemin trouvé alors qu'il n'en existe pas");
+            } else {
+                assertValidPath(maze, actual, start, end, context);
+                assertEquals(expected.size(), actual.size(), context + " : chemin plus long que le BFS");
+            }
+        }
+    }
+
+    // Labyrinthe ouvert coupé en deux par la colonne du milieu, départ à gauche
+    private static Maze split(int rows, int cols) {
+        Maze maze = new Maze(rows, cols);
+        for (int row = 1; row < rows - 1; row++) {
+            for (int col = 1; col < cols - 1; col++) {
+                if (col != cols / 2) {
+                    maze.setCell(row, col, Cell.CellType.PATH);
+                }
+            }
+        }
+        maze.setCell(1, 1, Cell.CellType.START);
+        maze.setCell(rows - 2, cols - 2, Cell.CellType.END);
+        return maze;
+    }
+
+    private static int randomWalkable(Maze maze, Random random) {
+        int cell;
+        do {
+            cell = random.nextInt(maze.getCellCount());
+        } while (!maze.isWalkable(cell));
+        return cell;
+    }
+}
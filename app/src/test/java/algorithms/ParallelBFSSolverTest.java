@@ -0,0 +1,65 @@
+package algorithms;
+
+import model.Maze;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utils.MazeLoader;
+
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Avec de toutes petites tranches, chaque niveau est découpé entre les threads du pool
+ * même sur une grille modeste.
+ */
+class ParallelBFSSolverTest {
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void shutdownPool() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void splitLevelsMatchBfs() {
+        MazeSolver parallel = new ParallelBFSSolver(pool, 8);
+        MazeSolver bfs = new BFSSolver();
+        Random random = new Random(5);
+        for (double density : new double[] {0.0, 0.2, 0.4}) {
+            Maze maze = MazeLoader.generateRandom(151, 173, density, 12);
+            for (int i = 0; i < 20; i++) {
+                int start = random.nextInt(maze.getCellCount());
+                int end = random.nextInt(maze.getCellCount());
+                String context = "densité " + density + ", " + start + " -> " + end;
+                assertEquals(bfs.solve(maze, start, end).size(), parallel.solve(maze, start, end).size(), context);
+            }
+        }
+    }
+
+    @Test
+    void interruptStopsWaitingForLevel() {
+        // Moins de 1 024 cellules : la vérification périodique du contexte ne se déclenche jamais,
+        // seule l'attente du niveau, dès qu'il dépasse une tranche, peut voir l'interruption
+        Maze maze = MazeLoader.generateRandom(31, 31, 0.0, 1);
+        MazeSolver parallel = new ParallelBFSSolver(pool, 8);
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(CancellationException.class, () -> parallel.solve(maze));
+            assertTrue(Thread.currentThread().isInterrupted(), "l'interruption doit être conservée");
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}
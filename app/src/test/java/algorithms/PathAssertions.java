@@ -0,0 +1,43 @@
+package algorithms;
+
+import model.Cell;
+import model.Maze;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Vérifications communes aux tests des solveurs.
+ */
+final class PathAssertions {
+    private PathAssertions() {
+    }
+
+    /**
+     * Vérifie que le chemin va de {@code start} à {@code end} par des cases traversables voisines.
+     */
+    static void assertValidPath(Maze maze, List<Cell> path, int start, int end, String message) {
+        assertTrue(!path.isEmpty(), message + " : chemin vide");
+        assertEquals(start, path.get(0).getIndex(), message + " : mauvais départ");
+        assertEquals(end, path.get(path.size() - 1).getIndex(), message + " : mauvaise arrivée");
+        for (int i = 1; i < path.size(); i++) {
+            int from = path.get(i - 1).getIndex();
+            int to = path.get(i).getIndex();
+            if (!isStep(maze, from, to)) {
+                fail(message + " : pas invalide de " + path.get(i - 1) + " vers " + path.get(i));
+            }
+        }
+    }
+
+    private static boolean isStep(Maze maze, int from, int to) {
+        for (int dir = 0; dir < Maze.DIRECTIONS; dir++) {
+            if (maze.neighbor(from, dir) == to) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,121 @@
+package algorithms;
+
+import model.Cell;
+import model.Maze;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import utils.MazeLoader;
+
+import java.util.List;
+import java.util.Random;
+
+import static algorithms.PathAssertions.assertValidPath;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Chaque solveur est comparé au BFS, qui donne toujours un plus court chemin.
+ */
+class SolversTest {
+    private static final double[] DENSITIES = {0.0, 0.1, 0.3, 0.45};
+    private static final int PAIRS = 40;
+
+    @Test
+    void bfsFindsPathExactlyWhenReachable() {
+        MazeSolver bfs = Solvers.create("bfs");
+        Random random = new Random(17);
+        for (double density : DENSITIES) {
+            Maze maze = MazeLoader.generateRandom(41, 57, density, 7);
+            for (int i = 0; i < PAIRS; i++) {
+                int start = random.nextInt(maze.getCellCount());
+                int end = random.nextInt(maze.getCellCount());
+                List<Cell> path = bfs.solve(maze, start, end);
+                String context = "densité " + density + ", " + start + " -> " + end;
+                if (maze.isReachable(start, end)) {
+                    assertValidPath(maze, path, start, end, context);
+                    // Jamais plus court que la distance de Manhattan
+                    assertTrue(path.size() - 1 >= Heuristic.MANHATTAN.estimate(maze, start, end), context);
+                } else {
+                    assertTrue(path.isEmpty(), context + " : chemin trouvé alors qu'il n'en existe pas");
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"dfs", "astar", "bidirectional", "jps", "parallel-bfs"})
+    void pathLengthMatchesBfs(String name) {
+        // Le DFS ne cherche pas le plus court chemin : seul un chemin valide est exigé
+        assertMatchesBfs(Solvers.create(name), !name.equals("dfs"), name);
+    }
+
+    @Test
+    void aStarAcceptsAnyAdmissibleHeuristic() {
+        // Une estimation nulle est admissible : l'A* se comporte alors comme Dijkstra
+        assertMatchesBfs(new AStarSolver((maze, cell, goal) -> 0), true, "A* sans heuristique");
+    }
+
+    @Test
+    void bidirectionalHandlesStartEqualToEnd() {
+        Maze maze = MazeLoader.generateRandom(11, 11, 0.0, 3);
+        int cell = maze.getStartIndex();
+
+        List<Cell> path = new BidirectionalBFSSolver().solve(maze, cell, cell);
+
+        assertEquals(1, path.size());
+        assertEquals(cell, path.get(0).getIndex());
+    }
+
+    @Test
+    void jumpPointMatchesBfsOnSparseOpenGrids() {
+        // Grandes zones ouvertes à obstacles épars : les sauts horizontaux mémorisés sont réutilisés
+        MazeSolver bfs = new BFSSolver();
+        MazeSolver jps = new JumpPointSolver();
+        Random random = new Random(23);
+        for (double density : new double[] {0.002, 0.01, 0.03}) {
+            Maze maze = MazeLoader.generateRandom(201, 233, density, 6);
+            for (int i = 0; i < 10; i++) {
+                int start = random.nextInt(maze.getCellCount());
+                int end = random.nextInt(maze.getCellCount());
+                check(maze, bfs.solve(maze, start, end), jps.solve(maze, start, end), start, end, true,
+                        "densité " + density + ", " + start + " -> " + end);
+            }
+        }
+    }
+
+    /**
+     * Compare le solveur au BFS sur des labyrinthes de plusieurs densités, pour le départ et
+     * l'arrivée du labyrinthe puis pour des paires quelconques, dont certaines séparées par des murs.
+     */
+    static void assertMatchesBfs(MazeSolver solver, boolean shortest, String name) {
+        MazeSolver bfs = Solvers.create("bfs");
+        Random random = new Random(42);
+
+        for (double density : DENSITIES) {
+            Maze maze = MazeLoader.generateRandom(41, 57, density, 7);
+            String context = name + ", densité " + density;
+            check(maze, bfs.solve(maze), solver.solve(maze),
+                    maze.getStartIndex(), maze.getEndIndex(), shortest, context);
+
+            for (int i = 0; i < PAIRS; i++) {
+                int start = random.nextInt(maze.getCellCount());
+                int end = random.nextInt(maze.getCellCount());
+                check(maze, bfs.solve(maze, start, end), solver.solve(maze, start, end),
+                        start, end, shortest, context + ", " + start + " -> " + end);
+            }
+        }
+    }
+
+    private static void check(Maze maze, List<Cell> expected, List<Cell> actual,
+                              int start, int end, boolean shortest, String context) {
+        if (expected.isEmpty()) {
+            assertTrue(actual.isEmpty(), context + " : chemin trouvé alors qu'il n'en existe pas");
+            return;
+        }
+        assertValidPath(maze, actual, start, end, context);
+        if (shortest) {
+            assertEquals(expected.size(), actual.size(), context + " : chemin plus long que le BFS");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package generators;
+
+import model.Maze;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PerfectMazeGeneratorTest {
+    private static final int[][] SIZES = {{5, 5}, {21, 31}, {40, 52}, {5, 101}};
+
+    @ParameterizedTest
+    @ValueSource(strings = {"kruskal", "prim", "wilson", "backtracker"})
+    void carvesSpanningTree(String name) {
+        for (int[] size : SIZES) {
+            Maze maze = Generators.create(name, 12, 0).generate(size[0], size[1]);
+            String context = name + " " + size[0] + "x" + size[1];
+
+            // Un arbre : connexe, et exactement une arête de moins que de cellules ouvertes
+            int open = 0;
+            int edges = 0;
+            for (int cell = 0; cell < maze.getCellCount(); cell++) {
+                if (maze.isWalkable(cell)) {
+                    open++;
+                    // Arêtes vers le bas et vers la droite, pour ne compter chacune qu'une fois
+                    edges += maze.neighbor(cell, 1) >= 0 ? 1 : 0;
+                    edges += maze.neighbor(cell, 3) >= 0 ? 1 : 0;
+                }
+            }
+            assertEquals(open - 1, edges, context + " : cycle ou composante isolée");
+            assertEquals(open, reachableFrom(maze, maze.getStartIndex()), context + " : salles non reliées");
+            assertNotEquals(maze.getStartIndex(), maze.getEndIndex(), context);
+            assertTrue(maze.isWalkable(maze.getEndIndex()), context);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"kruskal", "prim", "wilson", "backtracker"})
+    void sameSeedGivesSameMaze(String name) {
+        String first = Generators.create(name, 99, 0).generate(31, 41).toString();
+
+        assertEquals(first, Generators.create(name, 99, 0).generate(31, 41).toString());
+        assertNotEquals(first, Generators.create(name, 100, 0).generate(31, 41).toString());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"kruskal", "prim", "wilson", "backtracker"})
+    void rejectsSingleRoomSizes(String name) {
+        MazeGenerator generator = Generators.create(name, 1, 0);
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(3, 3));
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(4, 21));
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(21, 4));
+    }
+
+    private static int reachableFrom(Maze maze, int source) {
+        boolean[] seen = new boolean[maze.getCellCount()];
+        Deque<Integer> pending = new ArrayDeque<>();
+        seen[source] = true;
+        pending.push(source);
+        int count = 0;
+        while (!pending.isEmpty()) {
+            int cell = pending.pop();
+            count++;
+            for (int dir = 0; dir < Maze.DIRECTIONS; dir++) {
+                int next = maze.neighbor(cell, dir);
+                if (next >= 0 && !seen[next]) {
+                    seen[next] = true;
+                    pending.push(next);
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,98 @@
+package model;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Le stockage par tuiles doit rester indiscernable de la grille compacte, quelles que soient
+ * les écritures, les compactages et les copies.
+ */
+class ChunkedGridTest {
+    private static final Cell.CellType[] TYPES = {Cell.CellType.WALL, Cell.CellType.PATH, Cell.CellType.SOLUTION};
+
+    @ParameterizedTest
+    @CsvSource({"64, 64", "130, 97", "1, 200", "200, 1", "129, 257"})
+    void matchesPackedGridAcrossCompaction(int rows, int cols) {
+        Maze packed = new Maze(rows, cols);
+        Maze chunked = Maze.chunked(rows, cols);
+        Random random = new Random(rows * 31L + cols);
+
+        for (int round = 0; round < 40; round++) {
+            if (random.nextBoolean()) {
+                // Rectangle d'un seul type : des tuiles entières redeviennent uniformes au compactage
+                Cell.CellType type = TYPES[random.nextInt(TYPES.length)];
+                int top = random.nextInt(rows);
+                int left = random.nextInt(cols);
+                int bottom = Math.min(rows, top + 1 + random.nextInt(100));
+                int right = Math.min(cols, left + 1 + random.nextInt(100));
+                for (int row = top; row < bottom; row++) {
+                    for (int col = left; col < right; col++) {
+                        packed.setCell(row, col, type);
+                        chunked.setCell(row, col, type);
+                    }
+                }
+            } else {
+                // Cellules isolées : des tuiles uniformes redeviennent mixtes
+                for (int i = 0; i < 50; i++) {
+                    int index = random.nextInt(packed.getCellCount());
+                    Cell.CellType type = TYPES[random.nextInt(TYPES.length)];
+                    packed.setCell(index, type);
+                    chunked.setCell(index, type);
+                }
+            }
+            assertSameCells(packed, chunked, "tour " + round);
+            if (random.nextInt(3) == 0) {
+                chunked.compact();
+                assertSameCells(packed, chunked, "tour " + round + " après compactage");
+            }
+        }
+
+        // Copies dans les deux sens, et copie d'une grille par tuiles
+        assertSameCells(packed, Maze.chunked(packed), "Maze.chunked(Maze)");
+        assertSameCells(packed, new Maze(chunked), "copie de la grille par tuiles");
+        assertSameCells(packed, Maze.chunked(chunked), "Maze.chunked d'une grille par tuiles");
+    }
+
+    @ParameterizedTest
+    @CsvSource({"64, 64", "100, 70"})
+    void uniformTilesSwitchBothWays(int rows, int cols) {
+        Maze packed = new Maze(rows, cols);
+        Maze chunked = Maze.chunked(rows, cols);
+        // Tout ouvert, compacté (tuiles uniformes à PATH), puis une seule cellule murée et rouverte
+        fill(packed, Cell.CellType.PATH);
+        fill(chunked, Cell.CellType.PATH);
+        chunked.compact();
+        assertSameCells(packed, chunked, "grille ouverte");
+
+        int index = packed.index(rows - 1, cols - 1);
+        packed.setCell(index, Cell.CellType.WALL);
+        chunked.setCell(index, Cell.CellType.WALL);
+        chunked.compact();
+        assertSameCells(packed, chunked, "une cellule murée");
+
+        packed.setCell(index, Cell.CellType.PATH);
+        chunked.setCell(index, Cell.CellType.PATH);
+        chunked.compact();
+        assertSameCells(packed, chunked, "cellule rouverte");
+    }
+
+    private static void fill(Maze maze, Cell.CellType type) {
+        for (int index = 0; index < maze.getCellCount(); index++) {
+            maze.setCell(index, type);
+        }
+    }
+
+    private static void assertSameCells(Maze expected, Maze actual, String context) {
+        assertEquals(expected.getRows(), actual.getRows(), context);
+        assertEquals(expected.getCols(), actual.getCols(), context);
+        for (int index = 0; index < expected.getCellCount(); index++) {
+            if (expected.getType(index) != actual.getType(index)) {
+                assertEquals(expected.getType(index), actual.getType(index), context + ", cellule " + index);
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package model;
+
+import algorithms.BFSSolver;
+import algorithms.MazeSolver;
+import org.junit.jupiter.api.Test;
+import utils.MazeLoader;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReachabilityTest {
+
+    @Test
+    void followsVeryLongSnakeCorridor() {
+        // Couloir en serpentin d'environ 500 000 cellules : une version récursive déborderait la pile
+        Maze maze = snake(1001, 1001);
+        int first = maze.index(1, 1);
+        int last = maze.index(999, 999);
+        Reachability reachability = new Reachability(maze);
+
+        assertTrue(reachability.isReachable(first, last));
+        assertTrue(reachability.isReachable(last, first));
+
+        // Couper le serpentin au milieu sépare les deux bouts
+        maze.setCell(501, 500, Cell.CellType.WALL);
+        assertFalse(reachability.isReachable(first, last));
+        assertTrue(reachability.isReachable(first, maze.index(499, 999)));
+    }
+
+    @Test
+    void agreesWithBfs() {
+        MazeSolver bfs = new BFSSolver();
+        Random random = new Random(21);
+        for (double density : new double[] {0.0, 0.3, 0.45, 0.6}) {
+            Maze maze = MazeLoader.generateRandom(33, 47, density, 9);
+            Reachability reachability = new Reachability(maze);
+            for (int i = 0; i < 100; i++) {
+                int from = random.nextInt(maze.getCellCount());
+                int to = random.nextInt(maze.getCellCount());
+                boolean expected = !bfs.solve(maze, from, to).isEmpty();
+                String context = "densité " + density + ", " + from + " -> " + to;
+                assertEquals(expected, reachability.isReachable(from, to), context);
+                assertEquals(expected, maze.isReachable(from, to), context + " (Maze.isReachable)");
+            }
+        }
+    }
+
+    @Test
+    void sharedInstanceSeesGridChanges() {
+        // Maze.isReachable réutilise la même instance : elle doit relire la grille à chaque appel
+        Maze maze = new Maze(3, 7);
+        for (int col = 1; col < 6; col++) {
+            maze.setCell(1, col, Cell.CellType.PATH);
+        }
+        int left = maze.index(1, 1);
+        int right = maze.index(1, 5);
+
+        assertTrue(maze.isReachable(left, right));
+        maze.setCell(1, 3, Cell.CellType.WALL);
+        assertFalse(maze.isReachable(left, right));
+        maze.setCell(1, 3, Cell.CellType.PATH);
+        assertTrue(maze.isReachable(left, right));
+        assertTrue(maze.isReachable(left, left));
+        assertFalse(maze.isReachable(left, maze.index(0, 0)));
+    }
+
+    // Lignes impaires ouvertes, reliées alternativement à droite puis à gauche
+    private static Maze snake(int rows, int cols) {
+        Maze maze = new Maze(rows, cols);
+        for (int row = 1; row < rows - 1; row += 2) {
+            for (int col = 1; col < cols - 1; col++) {
+                maze.setCell(row, col, Cell.CellType.PATH);
+            }
+            if (row + 2 < rows - 1) {
+                maze.setCell(row + 1, (row / 2) % 2 == 0 ? cols - 2 : 1, Cell.CellType.PATH);
+            }
+        }
+        return maze;
+    }
+}
@@ -0,0 +1,76 @@
+package utils;
+
+import model.Cell;
+import model.Maze;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MazeBinaryFormatTest {
+
+    @Test
+    void writeThenReadKeepsWallsStartAndEnd() throws IOException {
+        // 37 x 53 cellules : le dernier octet du plan n'est pas plein
+        Maze maze = MazeLoader.generateRandom(37, 53, 0.35, 9);
+        // Une case solution redevient un passage à la relecture
+        maze.setCell(maze.getStartIndex() + 1, Cell.CellType.SOLUTION);
+
+        Maze read = MazeBinaryFormat.read(new ByteArrayInputStream(write(maze)));
+
+        assertEquals(maze.getRows(), read.getRows());
+        assertEquals(maze.getCols(), read.getCols());
+        assertEquals(maze.getStartIndex(), read.getStartIndex());
+        assertEquals(maze.getEndIndex(), read.getEndIndex());
+        for (int i = 0; i < maze.getCellCount(); i++) {
+            Cell.CellType expected = maze.getType(i) == Cell.CellType.SOLUTION ? Cell.CellType.PATH : maze.getType(i);
+            assertEquals(expected, read.getType(i), "cellule " + i);
+        }
+    }
+
+    @Test
+    void writeThenReadWithoutStartOrEnd() throws IOException {
+        Maze maze = new Maze(3, 5);
+        maze.setCell(1, 1, Cell.CellType.PATH);
+        maze.setCell(1, 2, Cell.CellType.PATH);
+
+        Maze read = MazeBinaryFormat.read(new ByteArrayInputStream(write(maze)));
+
+        assertEquals(-1, read.getStartIndex());
+        assertEquals(-1, read.getEndIndex());
+        assertEquals(maze.toString(), read.toString());
+    }
+
+    @Test
+    void rejectsCorruptedFile() throws IOException {
+        byte[] bytes = write(MazeLoader.generateRandom(11, 11, 0.2, 1));
+        bytes[bytes.length - 6] ^= 1;
+
+        assertThrows(IOException.class, () -> MazeBinaryFormat.read(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    void rejectsHugeDimensionsBeforeAllocatingGrid() throws IOException {
+        byte[] bytes = write(MazeLoader.generateRandom(11, 11, 0.2, 1));
+        // En-tête corrompu : 46 340 x 46 340 cellules, soit une grille de plus de 2 Go
+        ByteBuffer.wrap(bytes).putInt(5, 46_340).putInt(9, 46_340);
+
+        long before = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+        assertThrows(EOFException.class, () -> MazeBinaryFormat.read(new ByteArrayInputStream(bytes)));
+        long after = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+        assertTrue(after - before < 64L << 20, "mémoire allouée : " + (after - before));
+    }
+
+    private static byte[] write(Maze maze) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MazeBinaryFormat.write(maze, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,139 @@
+package utils;
+
+import algorithms.BFSSolver;
+import model.Cell;
+import model.Maze;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MazeLoaderTest {
+    @TempDir
+    Path directory;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\n", "\r\n", "\r"})
+    void loadsEveryLineEnding(String lineEnding) throws IOException {
+        // Plus large qu'un bloc de lecture : des lignes et des fins de ligne coupées entre deux blocs
+        Maze maze = MazeLoader.generateRandom(301, 307, 0.3, 4);
+        String text = maze.toString().replace("\n", lineEnding);
+
+        assertEquals(maze.toString(), load("avec-fins.txt", text).toString());
+        // Sans fin de ligne après la dernière ligne
+        String trimmed = text.substring(0, text.length() - lineEnding.length());
+        assertEquals(maze.toString(), load("sans-fin.txt", trimmed).toString());
+    }
+
+    @Test
+    void padsShortLinesWithWalls() throws IOException {
+        Maze maze = load("court.txt", "S==\n=\n==E\n");
+
+        assertEquals(3, maze.getRows());
+        assertEquals(3, maze.getCols());
+        assertEquals(Cell.CellType.PATH, maze.getType(1, 0));
+        assertEquals(Cell.CellType.WALL, maze.getType(1, 1));
+        assertEquals(Cell.CellType.WALL, maze.getType(1, 2));
+        assertEquals(maze.index(0, 0), maze.getStartIndex());
+        assertEquals(maze.index(2, 2), maze.getEndIndex());
+    }
+
+    @Test
+    void saveThenLoad() throws IOException {
+        Maze maze = MazeLoader.generateRandom(25, 40, 0.3, 8);
+        for (String name : new String[] {"labyrinthe.txt", "labyrinthe" + MazeBinaryFormat.EXTENSION}) {
+            String filename = directory.resolve(name).toString();
+            MazeLoader.saveToFile(maze, filename);
+            assertEquals(maze.toString(), MazeLoader.loadFromFile(filename).toString(), name);
+        }
+    }
+
+    @Test
+    void rejectsEmptyFile() throws IOException {
+        Path file = Files.write(directory.resolve("vide.txt"), new byte[0]);
+
+        assertThrows(IOException.class, () -> MazeLoader.loadFromFile(file.toString()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, 0.1, 0.3, 0.45})
+    void generateRandomHitsDensityAndConnectsEndpoints(double density) {
+        for (long seed = 0; seed < 20; seed++) {
+            Maze maze = MazeLoader.generateRandom(31, 47, density, seed);
+            String context = "densité " + density + ", graine " + seed;
+
+            assertBorderIsWalled(maze, context);
+            int expectedWalls = (int) ((29 * 45 - 2) * density);
+            assertEquals(expectedWalls, innerWalls(maze), context);
+            assertEquals(1, maze.getStart().getCol(), context);
+            assertEquals(45, maze.getEnd().getCol(), context);
+            assertFalse(new BFSSolver().solve(maze).isEmpty(), context + " : arrivée inaccessible");
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.6, 0.8, 1.0})
+    void generateRandomOpensCorridorWhenDense(double density) {
+        // Si dense que le départ et l'arrivée sont presque toujours séparés : le couloir de secours est ouvert
+        for (long seed = 0; seed < 20; seed++) {
+            Maze maze = MazeLoader.generateRandom(31, 47, density, seed);
+            String context = "densité " + density + ", graine " + seed;
+
+            assertBorderIsWalled(maze, context);
+            assertFalse(new BFSSolver().solve(maze).isEmpty(), context + " : arrivée inaccessible");
+            int target = (int) ((29 * 45 - 2) * density);
+            // Les murs retirés pour le couloir sont reposés ailleurs, sauf s'il ne reste aucune place
+            if (density < 1.0) {
+                assertEquals(target, innerWalls(maze), context);
+            } else {
+                assertTrue(innerWalls(maze) < target, context);
+            }
+        }
+    }
+
+    @Test
+    void generateRandomIsReproducible() {
+        assertEquals(MazeLoader.generateRandom(41, 41, 0.4, 5).toString(),
+                MazeLoader.generateRandom(41, 41, 0.4, 5).toString());
+        assertThrows(IllegalArgumentException.class, () -> MazeLoader.generateRandom(2, 10, 0.3));
+        assertThrows(IllegalArgumentException.class, () -> MazeLoader.generateRandom(10, 10, 1.5));
+    }
+
+    private static void assertBorderIsWalled(Maze maze, String context) {
+        for (int row = 0; row < maze.getRows(); row++) {
+            for (int col = 0; col < maze.getCols(); col++) {
+                boolean border = row == 0 || col == 0 || row == maze.getRows() - 1 || col == maze.getCols() - 1;
+                if (border) {
+                    assertEquals(Cell.CellType.WALL, maze.getType(row, col), context + " (" + row + ", " + col + ")");
+                }
+            }
+        }
+    }
+
+    private static int innerWalls(Maze maze) {
+        int walls = 0;
+        for (int row = 1; row < maze.getRows() - 1; row++) {
+            for (int col = 1; col < maze.getCols() - 1; col++) {
+                if (maze.getType(row, col) == Cell.CellType.WALL) {
+                    walls++;
+                }
+            }
+        }
+        return walls;
+    }
+
+    private Maze load(String name, String text) throws IOException {
+        Path file = Files.write(directory.resolve(name), text.getBytes(StandardCharsets.US_ASCII));
+        return MazeLoader.loadFromFile(file.toString());
+    }
+}
@@ -0,0 +1,29 @@
+package benchmarks;
+
+import algorithms.MazeSolver;
+import algorithms.Solvers;
+import model.Maze;
+import utils.MazeLoader;
+
+/**
+ * Labyrinthes et solveurs communs aux benchmarks. La graine est fixe pour que deux
+ * exécutions mesurent exactement les mêmes grilles.
+ */
+final class BenchmarkMazes {
+    static final long SEED = 42L;
+
+    private BenchmarkMazes() {
+    }
+
+    static Maze generate(int size, double density) {
+        return generate(size, density, SEED);
+    }
+
+    static Maze generate(int size, double density, long seed) {
+        return MazeLoader.generateRandom(size, size, density, seed);
+    }
+
+    static MazeSolver solver(String name) {
+        return Solvers.create(name);
+    }
+}
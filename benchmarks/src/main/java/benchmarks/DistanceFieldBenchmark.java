@@ -0,0 +1,63 @@
+package benchmarks;
+
+import algorithms.BFSSolver;
+import algorithms.DistanceField;
+import model.Maze;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plusieurs agents vers la même arrivée : une résolution BFS par agent contre une carte
+ * des distances calculée une fois puis lue pour chaque agent.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DistanceFieldBenchmark {
+    private static final int AGENTS = 32;
+
+    @Param({"201", "1001"})
+    private int size;
+
+    @Param({"0.1", "0.3"})
+    private double density;
+
+    private Maze maze;
+    private int[] agents;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        maze = BenchmarkMazes.generate(size, density);
+        Random random = new Random(BenchmarkMazes.SEED);
+        agents = new int[AGENTS];
+        for (int i = 0; i < AGENTS; i++) {
+            int cell;
+            do {
+                cell = random.nextInt(maze.getCellCount());
+            } while (!maze.isWalkable(cell));
+            agents[i] = cell;
+        }
+    }
+
+    @Benchmark
+    public void solvePerAgent(Blackhole blackhole) {
+        BFSSolver solver = new BFSSolver();
+        for (int agent : agents) {
+            blackhole.consume(solver.solve(maze, agent, maze.getEndIndex()));
+        }
+    }
+
+    @Benchmark
+    public void distanceField(Blackhole blackhole) {
+        DistanceField field = DistanceField.toEnd(maze);
+        for (int agent : agents) {
+            blackhole.consume(field.pathFrom(agent));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package benchmarks;
+
+import model.Maze;
+import org.openjdk.jmh.annotations.*;
+import utils.MazeLoader;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratorBenchmark {
+    @Param({"201", "1001"})
+    private int size;
+
+    @Param({"0.1", "0.3"})
+    private double density;
+
+    @Benchmark
+    public Maze generateRandom() {
+        return MazeLoader.generateRandom(size, size, density, BenchmarkMazes.SEED);
+    }
+}
@@ -0,0 +1,65 @@
+package benchmarks;
+
+import algorithms.BFSSolver;
+import algorithms.LPAStarSolver;
+import model.Cell;
+import model.Maze;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Labyrinthe modifié entre deux requêtes : une cellule du chemin devient un mur puis redevient
+ * libre à chaque appel. Nouvelle résolution BFS complète contre réparation par LPA*.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IncrementalBenchmark {
+    @Param({"201", "1001"})
+    private int size;
+
+    @Param({"0.1", "0.3"})
+    private double density;
+
+    private Maze maze;
+    private int toggled;
+    private BFSSolver bfs;
+    private LPAStarSolver lpa;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        maze = BenchmarkMazes.generate(size, density);
+        List<Cell> path = new BFSSolver().solve(maze);
+        // Cellule au milieu du chemin : la murer oblige à chercher un détour
+        toggled = path.get(path.size() / 2).getIndex();
+        bfs = new BFSSolver();
+        lpa = new LPAStarSolver();
+        lpa.solve(maze);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        lpa.reset();
+    }
+
+    @Benchmark
+    public List<Cell> resolveFromScratch() {
+        toggle();
+        return bfs.solve(maze);
+    }
+
+    @Benchmark
+    public List<Cell> repairIncrementally() {
+        toggle();
+        return lpa.solve(maze);
+    }
+
+    private void toggle() {
+        maze.setCell(toggled, maze.isWalkable(toggled) ? Cell.CellType.WALL : Cell.CellType.PATH);
+    }
+}
@@ -0,0 +1,81 @@
+package benchmarks;
+
+import algorithms.AStarSolver;
+import algorithms.LandmarkIndex;
+import generators.KruskalGenerator;
+import model.Maze;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requêtes répétées sur un même labyrinthe : A* avec Manhattan contre A* avec l'index de
+ * repères (construit une fois, hors mesure), et coût de construction de l'index.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LandmarkBenchmark {
+    private static final int QUERIES = 16;
+
+    @Param({"201", "1001"})
+    private int size;
+
+    @Param({"perfect", "random"})
+    private String kind;
+
+    private Maze maze;
+    private LandmarkIndex index;
+    private int[] starts;
+    private int[] ends;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        maze = kind.equals("perfect")
+                ? new KruskalGenerator(BenchmarkMazes.SEED).generate(size, size)
+                : BenchmarkMazes.generate(size, 0.3);
+        index = LandmarkIndex.build(maze);
+
+        Random random = new Random(BenchmarkMazes.SEED);
+        starts = new int[QUERIES];
+        ends = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            starts[i] = randomWalkable(random);
+            ends[i] = randomWalkable(random);
+        }
+    }
+
+    private int randomWalkable(Random random) {
+        int cell;
+        do {
+            cell = random.nextInt(maze.getCellCount());
+        } while (!maze.isWalkable(cell));
+        return cell;
+    }
+
+    @Benchmark
+    public void manhattanQueries(Blackhole blackhole) {
+        AStarSolver solver = new AStarSolver();
+        for (int i = 0; i < QUERIES; i++) {
+            blackhole.consume(solver.solve(maze, starts[i], ends[i]));
+        }
+    }
+
+    @Benchmark
+    public void landmarkQueries(Blackhole blackhole) {
+        AStarSolver solver = new AStarSolver(index);
+        for (int i = 0; i < QUERIES; i++) {
+            blackhole.consume(solver.solve(maze, starts[i], ends[i]));
+        }
+    }
+
+    @Benchmark
+    public LandmarkIndex buildIndex() {
+        return LandmarkIndex.build(maze);
+    }
+}
@@ -0,0 +1,54 @@
+package benchmarks;
+
+import model.Maze;
+import org.openjdk.jmh.annotations.*;
+import utils.MazeLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoaderBenchmark {
+    @Param({"201", "1001"})
+    private int size;
+
+    @Param({"0.1", "0.3"})
+    private double density;
+
+    // Extension du fichier : texte ou binaire compact
+    @Param({".txt", ".mzb"})
+    private String format;
+
+    private Maze maze;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("labyrinthe-", format);
+        maze = BenchmarkMazes.generate(size, density);
+        MazeLoader.saveToFile(maze, file.toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public Maze loadFromFile() throws IOException {
+        return MazeLoader.loadFromFile(file.toString());
+    }
+
+    @Benchmark
+    public void saveToFile() throws IOException {
+        MazeLoader.saveToFile(maze, file.toString());
+    }
+}
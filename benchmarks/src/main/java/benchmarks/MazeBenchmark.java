@@ -0,0 +1,37 @@
+package benchmarks;
+
+import model.Maze;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MazeBenchmark {
+    @Param({"201", "1001"})
+    private int size;
+
+    @Param({"0.1", "0.3"})
+    private double density;
+
+    private Maze maze;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        maze = BenchmarkMazes.generate(size, density);
+    }
+
+    @Benchmark
+    public Maze copy() {
+        return new Maze(maze);
+    }
+
+    @Benchmark
+    public String render() {
+        return maze.toString();
+    }
+}
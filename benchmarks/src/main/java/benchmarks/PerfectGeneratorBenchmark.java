@@ -0,0 +1,34 @@
+package benchmarks;
+
+import generators.Generators;
+import generators.MazeGenerator;
+import model.Maze;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PerfectGeneratorBenchmark {
+    @Param({"201", "1001"})
+    private int size;
+
+    @Param({"kruskal", "prim", "wilson", "backtracker"})
+    private String generator;
+
+    private MazeGenerator mazeGenerator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mazeGenerator = Generators.create(generator, BenchmarkMazes.SEED, 0);
+    }
+
+    @Benchmark
+    public Maze generate() {
+        return mazeGenerator.generate(size, size);
+    }
+}
@@ -0,0 +1,76 @@
+package benchmarks;
+
+import algorithms.MazeSolver;
+import model.Cell;
+import model.Maze;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolverBenchmark {
+    @Param({"201", "1001"})
+    private int size;
+
+    @Param({"0.1", "0.3"})
+    private double density;
+
+    @Param({"bfs", "dfs", "astar", "bidirectional", "jps", "parallel-bfs"})
+    private String solver;
+
+    private Maze maze;
+    private MazeSolver mazeSolver;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        maze = BenchmarkMazes.generate(size, density);
+        mazeSolver = BenchmarkMazes.solver(solver);
+    }
+
+    @Benchmark
+    public List<Cell> solve() {
+        return mazeSolver.solve(maze);
+    }
+
+    /**
+     * Jump Point Search contre A* sur des grilles de plus en plus encombrées, pour plusieurs
+     * graines : des zones ouvertes semées de rares murs (où JPS doit l'emporter) jusqu'à la grille
+     * vide (où A* va droit au but sans rien balayer).
+     */
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @State(Scope.Benchmark)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    @Fork(1)
+    public static class JumpPointVersusAStar {
+        @Param({"0.0", "0.01", "0.1", "0.2", "0.3"})
+        private double density;
+
+        @Param({"1", "2", "3", "4"})
+        private long seed;
+
+        @Param({"astar", "jps"})
+        private String solver;
+
+        private Maze maze;
+        private MazeSolver mazeSolver;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            maze = BenchmarkMazes.generate(1001, density, seed);
+            mazeSolver = BenchmarkMazes.solver(solver);
+        }
+
+        @Benchmark
+        public List<Cell> solve() {
+            return mazeSolver.solve(maze);
+        }
+    }
+}
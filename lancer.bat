@@ -1,6 +1,6 @@
 @echo off
 echo Compilation du projet...
-javac src/model/*.java src/algorithms/*.java src/utils/*.java src/ui/*.java src/Main.java
+javac -encoding UTF-8 src/model/*.java src/algorithms/*.java src/generators/*.java src/utils/*.java src/ui/*.java src/cli/*.java src/Main.java
 if errorlevel 1 (
     echo Erreur lors de la compilation
     pause
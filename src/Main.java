@@ -1,19 +1,36 @@
+import algorithms.AStarSolver;
 import algorithms.BFSSolver;
+import algorithms.BidirectionalBFSSolver;
 import algorithms.DFSSolver;
+import algorithms.JumpPointSolver;
 import algorithms.MazeSolver;
-import model.Cell;
+import algorithms.SolveMetrics;
+import algorithms.SolveResult;
+import algorithms.SolverService;
+import cli.BatchRunner;
 import model.Maze;
 import utils.MazeLoader;
 import ui.MazeGUI;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 public class Main {
     private static final Scanner scanner = new Scanner(System.in);
+    private static final long SOLVE_TIMEOUT_SECONDS = 60;
 
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--batch")) {
+            // Mode batch non interactif, pour les campagnes de mesure scriptées
+            System.exit(BatchRunner.run(Arrays.copyOfRange(args, 1, args.length)));
+        }
+
         System.out.println("\n=== Résolution de Labyrinthe ===");
         System.out.println("1. Mode Console");
         System.out.println("2. Mode Graphique");
@@ -69,34 +86,14 @@ public class Main {
                     System.out.println("\nLabyrinthe initial :");
                     System.out.println(maze);
 
-                    MazeSolver[] solvers = {new DFSSolver(), new BFSSolver()};
-                    for (MazeSolver solver : solvers) {
-                        System.out.println("\nRésolution avec " + solver.getName());
-                        maze.resetVisited();
-                        
-                        List<Cell> solution = solver.solve(maze);
-                        
-                        if (!solution.isEmpty()) {
-                            // Marquer le chemin solution
-                            for (Cell cell : solution) {
-                                if (cell != maze.getStart() && cell != maze.getEnd()) {
-                                    cell.setType(Cell.CellType.SOLUTION);
-                                }
-                            }
-                            
-                            System.out.println("Solution trouvée !");
-                            System.out.println("Nombre d'étapes : " + solver.getStepCount());
-                            System.out.println("Temps d'exécution : " + solver.getExecutionTime() + "ms");
-                            System.out.println(maze);
-                            
-                            // Restaurer le chemin
-                            for (Cell cell : solution) {
-                                if (cell != maze.getStart() && cell != maze.getEnd()) {
-                                    cell.setType(Cell.CellType.PATH);
-                                }
-                            }
-                        } else {
-                            System.out.println("Aucune solution trouvée !");
+                    List<MazeSolver> solvers = List.of(new DFSSolver(), new BFSSolver(), new AStarSolver(),
+                            new BidirectionalBFSSolver(), new JumpPointSolver());
+                    // Tous les solveurs tournent en parallèle, les résultats sont affichés dans l'ordre
+                    try (SolverService service = new SolverService()) {
+                        List<Future<SolveResult>> results = service.solveAll(maze, solvers, SOLVE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                        for (int i = 0; i < solvers.size(); i++) {
+                            System.out.println("\nRésolution avec " + solvers.get(i).getName());
+                            printResult(maze, results.get(i));
                         }
                     }
 
@@ -119,4 +116,35 @@ public class Main {
         System.out.println("Au revoir !");
         scanner.close();
     }
-} 
\ No newline at end of file
+
+    private static void printResult(Maze maze, Future<SolveResult> future) {
+        SolveResult result;
+        try {
+            result = future.get();
+        } catch (CancellationException e) {
+            System.out.println("Résolution abandonnée : délai de " + SOLVE_TIMEOUT_SECONDS + " s dépassé");
+            return;
+        } catch (ExecutionException e) {
+            System.out.println("Erreur pendant la résolution : " + e.getCause().getMessage());
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        if (result.isSolved()) {
+            System.out.println("Solution trouvée !");
+            SolveMetrics metrics = result.getMetrics();
+            System.out.println("Nombre d'étapes : " + metrics.getCellsExpanded());
+            System.out.printf("Temps d'exécution : %.3f ms%n", metrics.getElapsedMillis());
+            System.out.println("Frontière maximale : " + metrics.getPeakFrontier());
+            if (metrics.getAllocatedBytes() >= 0) {
+                System.out.println("Mémoire allouée : " + metrics.getAllocatedBytes() + " octets");
+            }
+            // Le chemin est superposé à l'affichage, le labyrinthe n'est pas modifié
+            System.out.println(maze.toString(result.getPath()));
+        } else {
+            System.out.println("Aucune solution trouvée !");
+        }
+    }
+}
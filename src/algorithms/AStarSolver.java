@@ -0,0 +1,69 @@
+package algorithms;
+
+import model.Cell;
+import model.Maze;
+import java.util.*;
+
+/**
+ * Recherche A* : explore en priorité les cellules dont le coût parcouru plus l'estimation
+ * restante est le plus faible. Avec une heuristique admissible le chemin est le plus court.
+ */
+public class AStarSolver extends AbstractMazeSolver {
+    private final Heuristic heuristic;
+
+    public AStarSolver() {
+        this(Heuristic.MANHATTAN);
+    }
+
+    public AStarSolver(Heuristic heuristic) {
+        this.heuristic = heuristic;
+    }
+
+    @Override
+    List<Cell> search(SearchContext context, int start, int end) {
+        Maze maze = context.maze;
+        IntMinHeap open = new IntMinHeap(maze.getCellCount());
+        // Coût depuis le départ, valable seulement pour les cellules déjà atteintes
+        int[] cost = new int[maze.getCellCount()];
+
+        context.visit(start);
+        cost[start] = 0;
+        open.insertOrUpdate(start, priority(0, heuristic.estimate(maze, start, end)));
+
+        while (!open.isEmpty()) {
+            int current = open.poll();
+            context.expand(current);
+
+            if (current == end) {
+                return SearchPaths.fromParents(maze, context.parent, start, end);
+            }
+
+            int nextCost = cost[current] + 1;
+            for (int dir = 0; dir < Maze.DIRECTIONS; dir++) {
+                int next = maze.neighbor(current, dir);
+                if (next < 0) {
+                    continue;
+                }
+                // Une cellule déjà atteinte n'est reprise que si le nouveau chemin est plus court
+                if (context.visit(next, current) || nextCost < cost[next]) {
+                    context.parent[next] = current;
+                    cost[next] = nextCost;
+                    open.insertOrUpdate(next, priority(nextCost, heuristic.estimate(maze, next, end)));
+                }
+            }
+            context.trackFrontier(open.size());
+        }
+
+        return new ArrayList<>();
+    }
+
+    // f = g + h sur les bits de poids fort, h en départage pour privilégier les cellules proches du but
+    private static long priority(int cost, int estimate) {
+        return ((long) (cost + estimate) << 32) | estimate;
+    }
+
+    @Override
+    public String getName() {
+        return "A* (A-Star)";
+    }
+}
@@ -0,0 +1,93 @@
+package algorithms;
+
+import model.Cell;
+import model.Maze;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base commune des solveurs : chaque appel à {@link #solve(Maze)} crée son propre
+ * {@link SearchContext}. Une instance de solveur garde les statistiques de sa dernière
+ * résolution (une instance par thread), mais le labyrinthe reste en lecture seule.
+ */
+abstract class AbstractMazeSolver implements MazeSolver {
+    private int stepCount;
+    private long executionTime;
+    private SolveMetrics lastMetrics;
+    private volatile ExplorationBuffer exploration;
+
+    @Override
+    public final List<Cell> solve(Maze maze) {
+        return solve(maze, maze.getStartIndex(), maze.getEndIndex());
+    }
+
+    @Override
+    public final List<Cell> solve(Maze maze, int start, int end) {
+        long allocatedBefore = SolveMetrics.currentThreadAllocatedBytes();
+        long startTime = System.nanoTime();
+        SearchContext context = new SearchContext(maze, exploration, usesSearchState(), usesVisited());
+
+        List<Cell> path;
+        if (start < 0 || end < 0 || !maze.isWalkable(start) || !maze.isWalkable(end)) {
+            path = new ArrayList<>();
+        } else {
+            try {
+                path = search(context, start, end);
+            } finally {
+                context.flushExploration();
+            }
+        }
+
+        long elapsed = System.nanoTime() - startTime;
+        long allocatedAfter = SolveMetrics.currentThreadAllocatedBytes();
+        long allocated = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+
+        stepCount = context.getExpanded();
+        executionTime = elapsed / 1_000_000;
+        lastMetrics = new SolveMetrics(getName(), elapsed, stepCount, context.getPeakFrontier(),
+                allocated, path.size());
+        return path;
+    }
+
+    /**
+     * Cherche un chemin de {@code start} à {@code end}, ou renvoie une liste vide.
+     */
+    abstract List<Cell> search(SearchContext context, int start, int end);
+
+    /**
+     * Faux si le solveur n'utilise ni les parents ni les cellules visitées du contexte, qui ne
+     * sont alors pas alloués (solveurs qui gardent leur propre état d'une résolution à l'autre).
+     */
+    boolean usesSearchState() {
+        return true;
+    }
+
+    /**
+     * Faux si le solveur lit les parents du contexte mais tient ses propres cellules visitées :
+     * le bitmap du contexte n'est alors pas alloué.
+     */
+    boolean usesVisited() {
+        return usesSearchState();
+    }
+
+    @Override
+    public void setExplorationBuffer(ExplorationBuffer buffer) {
+        this.exploration = buffer;
+    }
+
+    @Override
+    public int getStepCount() {
+        return stepCount;
+    }
+
+    @Override
+    public long getExecutionTime() {
+        return executionTime;
+    }
+
+    @Override
+    public SolveMetrics getLastMetrics() {
+        return lastMetrics;
+    }
+}
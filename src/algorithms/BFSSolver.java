@@ -4,72 +4,38 @@ import model.Cell;
 import model.Maze;
 import java.util.*;
 
-public class BFSSolver implements MazeSolver {
-    private int stepCount;
-    private long executionTime;
+public class BFSSolver extends AbstractMazeSolver {
 
     @Override
-    public List<Cell> solve(Maze maze) {
-        stepCount = 0;
-        long startTime = System.currentTimeMillis();
-        
-        Queue<Cell> queue = new LinkedList<>();
-        Map<Cell, Cell> parentMap = new HashMap<>();
-        
-        Cell start = maze.getStart();
-        Cell end = maze.getEnd();
-        
+    List<Cell> search(SearchContext context, int start, int end) {
+        Maze maze = context.maze;
+        IntQueue queue = new IntQueue();
+
         queue.offer(start);
-        start.setVisited(true);
-        
+        context.visit(start);
+
         while (!queue.isEmpty()) {
-            Cell current = queue.poll();
-            stepCount++;
-            
+            int current = queue.poll();
+            context.expand(current);
+
             if (current == end) {
-                executionTime = System.currentTimeMillis() - startTime;
-                return reconstructPath(parentMap, start, end);
+                return SearchPaths.fromParents(maze, context.parent, start, end);
             }
-            
-            for (Cell neighbor : maze.getNeighbors(current)) {
-                if (!neighbor.isVisited()) {
-                    queue.offer(neighbor);
-                    neighbor.setVisited(true);
-                    parentMap.put(neighbor, current);
+
+            for (int dir = 0; dir < Maze.DIRECTIONS; dir++) {
+                int next = maze.neighbor(current, dir);
+                if (next >= 0 && context.visit(next, current)) {
+                    queue.offer(next);
                 }
             }
+            context.trackFrontier(queue.size());
         }
-        
-        executionTime = System.currentTimeMillis() - startTime;
-        return new ArrayList<>();
-    }
 
-    private List<Cell> reconstructPath(Map<Cell, Cell> parentMap, Cell start, Cell end) {
-        List<Cell> path = new ArrayList<>();
-        Cell current = end;
-        
-        while (current != start) {
-            path.add(current);
-            current = parentMap.get(current);
-        }
-        path.add(start);
-        
-        Collections.reverse(path);
-        return path;
+        return new ArrayList<>();
     }
 
     @Override
     public String getName() {
         return "BFS (Breadth-First Search)";
     }
-
-    @Override
-    public int getStepCount() {
-        return stepCount;
-    }
-
-    @Override
-    public long getExecutionTime() {
-        return executionTime;
-    }
-} 
\ No newline at end of file
+}
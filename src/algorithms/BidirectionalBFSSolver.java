@@ -0,0 +1,104 @@
+package algorithms;
+
+import model.Cell;
+import model.Maze;
+import java.util.*;
+
+/**
+ * BFS lancé simultanément depuis le départ et depuis l'arrivée. On développe à chaque tour
+ * un niveau complet de la frontière la plus petite, jusqu'à ce que les deux recherches se
+ * rencontrent : le rayon exploré de chaque côté est environ la moitié de celui d'un BFS simple.
+ */
+public class BidirectionalBFSSolver extends AbstractMazeSolver {
+
+    @Override
+    List<Cell> search(SearchContext context, int start, int end) {
+        Maze maze = context.maze;
+        if (start == end) {
+            context.expand(start);
+            return SearchPaths.fromParents(maze, context.parent, start, end);
+        }
+
+        // Profondeur + 1 de chaque cellule de chaque côté, 0 si elle n'a pas été atteinte
+        int[] forwardDepth = new int[maze.getCellCount()];
+        int[] backwardDepth = new int[maze.getCellCount()];
+        int[] forwardParent = context.parent;
+        int[] backwardParent = new int[maze.getCellCount()];
+        IntQueue forwardQueue = new IntQueue();
+        IntQueue backwardQueue = new IntQueue();
+
+        forwardDepth[start] = 1;
+        backwardDepth[end] = 1;
+        forwardQueue.offer(start);
+        backwardQueue.offer(end);
+
+        int bestLength = Integer.MAX_VALUE;
+        int meetForward = -1;
+        int meetBackward = -1;
+
+        while (!forwardQueue.isEmpty() && !backwardQueue.isEmpty()) {
+            boolean forward = forwardQueue.size() <= backwardQueue.size();
+            IntQueue queue = forward ? forwardQueue : backwardQueue;
+            int[] depth = forward ? forwardDepth : backwardDepth;
+            int[] otherDepth = forward ? backwardDepth : forwardDepth;
+            int[] parent = forward ? forwardParent : backwardParent;
+
+            // Le niveau est développé en entier pour garder la plus courte des jonctions trouvées
+            for (int remaining = queue.size(); remaining > 0; remaining--) {
+                int current = queue.poll();
+                context.expand(current);
+
+                for (int dir = 0; dir < Maze.DIRECTIONS; dir++) {
+                    int next = maze.neighbor(current, dir);
+                    if (next < 0) {
+                        continue;
+                    }
+                    if (otherDepth[next] != 0) {
+                        int length = depth[current] + otherDepth[next] - 1;
+                        if (length < bestLength) {
+                            bestLength = length;
+                            meetForward = forward ? current : next;
+                            meetBackward = forward ? next : current;
+                        }
+                    }
+                    if (depth[next] == 0) {
+                        depth[next] = depth[current] + 1;
+                        parent[next] = current;
+                        queue.offer(next);
+                    }
+                }
+            }
+            context.trackFrontier(forwardQueue.size() + backwardQueue.size());
+
+            if (bestLength != Integer.MAX_VALUE) {
+                return joinPaths(maze, forwardParent, backwardParent, start, end, meetForward, meetBackward);
+            }
+        }
+
+        return new ArrayList<>();
+    }
+
+    // Départ -> meetForward par les parents avant, puis meetBackward -> arrivée par les parents arrière
+    private static List<Cell> joinPaths(Maze maze, int[] forwardParent, int[] backwardParent,
+                                        int start, int end, int meetForward, int meetBackward) {
+        List<Cell> path = SearchPaths.fromParents(maze, forwardParent, start, meetForward);
+        int current = meetBackward;
+        while (current != end) {
+            path.add(maze.getCell(current));
+            current = backwardParent[current];
+        }
+        path.add(maze.getCell(end));
+        return path;
+    }
+
+    // Les profondeurs de chaque côté servent de cellules visitées : seuls les parents du contexte sont lus
+    @Override
+    boolean usesVisited() {
+        return false;
+    }
+
+    @Override
+    public String getName() {
+        return "BFS bidirectionnel";
+    }
+}
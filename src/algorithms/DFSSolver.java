@@ -4,72 +4,38 @@ import model.Cell;
 import model.Maze;
 import java.util.*;
 
-public class DFSSolver implements MazeSolver {
-    private int stepCount;
-    private long executionTime;
+public class DFSSolver extends AbstractMazeSolver {
 
     @Override
-    public List<Cell> solve(Maze maze) {
-        stepCount = 0;
-        long startTime = System.currentTimeMillis();
-        
-        Stack<Cell> stack = new Stack<>();
-        Map<Cell, Cell> parentMap = new HashMap<>();
-        
-        Cell start = maze.getStart();
-        Cell end = maze.getEnd();
-        
+    List<Cell> search(SearchContext context, int start, int end) {
+        Maze maze = context.maze;
+        IntStack stack = new IntStack();
+
         stack.push(start);
-        start.setVisited(true);
-        
+        context.visit(start);
+
         while (!stack.isEmpty()) {
-            Cell current = stack.pop();
-            stepCount++;
-            
+            int current = stack.pop();
+            context.expand(current);
+
             if (current == end) {
-                executionTime = System.currentTimeMillis() - startTime;
-                return reconstructPath(parentMap, start, end);
+                return SearchPaths.fromParents(maze, context.parent, start, end);
             }
-            
-            for (Cell neighbor : maze.getNeighbors(current)) {
-                if (!neighbor.isVisited()) {
-                    stack.push(neighbor);
-                    neighbor.setVisited(true);
-                    parentMap.put(neighbor, current);
+
+            for (int dir = 0; dir < Maze.DIRECTIONS; dir++) {
+                int next = maze.neighbor(current, dir);
+                if (next >= 0 && context.visit(next, current)) {
+                    stack.push(next);
                 }
             }
+            context.trackFrontier(stack.size());
         }
-        
-        executionTime = System.currentTimeMillis() - startTime;
-        return new ArrayList<>();
-    }
 
-    private List<Cell> reconstructPath(Map<Cell, Cell> parentMap, Cell start, Cell end) {
-        List<Cell> path = new ArrayList<>();
-        Cell current = end;
-        
-        while (current != start) {
-            path.add(current);
-            current = parentMap.get(current);
-        }
-        path.add(start);
-        
-        Collections.reverse(path);
-        return path;
+        return new ArrayList<>();
     }
 
     @Override
     public String getName() {
         return "DFS (Depth-First Search)";
     }
-
-    @Override
-    public int getStepCount() {
-        return stepCount;
-    }
-
-    @Override
-    public long getExecutionTime() {
-        return executionTime;
-    }
-} 
\ No newline at end of file
+}
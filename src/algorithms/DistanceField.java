@@ -0,0 +1,102 @@
+package algorithms;
+
+import model.Cell;
+import model.Maze;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Carte des distances vers une cible unique (l'arrivée par défaut), calculée une seule fois
+ * par un parcours en largeur depuis la cible. Ensuite, le prochain pas et le chemin le plus
+ * court depuis n'importe quelle cellule s'obtiennent sans nouvelle recherche, en descendant
+ * simplement les distances : N agents vers une même sortie coûtent un parcours et N lectures.
+ * Le labyrinthe ne doit plus être modifié après la construction.
+ */
+public class DistanceField {
+    private final Maze maze;
+    private final int target;
+    private final int[] distance;
+
+    private DistanceField(Maze maze, int target) {
+        this.maze = maze;
+        this.target = target;
+        this.distance = Distances.breadthFirst(maze, target);
+    }
+
+    public static DistanceField toEnd(Maze maze) {
+        if (maze.getEndIndex() < 0) {
+            throw new IllegalArgumentException("Le labyrinthe n'a pas d'arrivée");
+        }
+        return toTarget(maze, maze.getEndIndex());
+    }
+
+    public static DistanceField toTarget(Maze maze, int target) {
+        if (target < 0 || target >= maze.getCellCount() || !maze.isWalkable(target)) {
+            throw new IllegalArgumentException("Cible invalide : " + target);
+        }
+        return new DistanceField(maze, target);
+    }
+
+    public Maze getMaze() {
+        return maze;
+    }
+
+    public int getTarget() {
+        return target;
+    }
+
+    /**
+     * Nombre de pas entre {@code cell} et la cible, ou -1 si la cible n'est pas accessible.
+     */
+    public int distance(int cell) {
+        return distance[cell];
+    }
+
+    public int distance(Cell cell) {
+        return distance(cell.getIndex());
+    }
+
+    public boolean isReachable(int cell) {
+        return distance[cell] != Distances.UNREACHABLE;
+    }
+
+    /**
+     * Voisin qui rapproche d'un pas de la cible, ou -1 si {@code cell} est la cible ou ne
+     * peut pas l'atteindre. À égalité, la première direction de {@link Maze#neighbor} l'emporte.
+     */
+    public int nextStep(int cell) {
+        int current = distance[cell];
+        if (current <= 0) {
+            return -1;
+        }
+        for (int dir = 0; dir < Maze.DIRECTIONS; dir++) {
+            int next = maze.neighbor(cell, dir);
+            if (next >= 0 && distance[next] == current - 1) {
+                return next;
+            }
+        }
+        return -1; // Impossible tant que le labyrinthe n'a pas changé
+    }
+
+    /**
+     * Chemin le plus court de {@code cell} à la cible, extrémités comprises, ou liste vide.
+     */
+    public List<Cell> pathFrom(int cell) {
+        if (!isReachable(cell)) {
+            return new ArrayList<>();
+        }
+        List<Cell> path = new ArrayList<>(distance[cell] + 1);
+        int current = cell;
+        path.add(maze.getCell(current));
+        while (current != target) {
+            current = nextStep(current);
+            path.add(maze.getCell(current));
+        }
+        return path;
+    }
+
+    public List<Cell> pathFrom(Cell cell) {
+        return pathFrom(cell.getIndex());
+    }
+}
@@ -0,0 +1,37 @@
+package algorithms;
+
+import model.Maze;
+
+import java.util.Arrays;
+
+/**
+ * Distances exactes en nombre de pas depuis une cellule, calculées par un parcours en largeur
+ * complet. Une cellule inaccessible vaut {@link #UNREACHABLE}.
+ */
+final class Distances {
+    static final int UNREACHABLE = -1;
+
+    private Distances() {
+    }
+
+    static int[] breadthFirst(Maze maze, int source) {
+        int[] distance = new int[maze.getCellCount()];
+        Arrays.fill(distance, UNREACHABLE);
+        IntQueue queue = new IntQueue();
+
+        distance[source] = 0;
+        queue.offer(source);
+        while (!queue.isEmpty()) {
+            int current = queue.poll();
+            int nextDistance = distance[current] + 1;
+            for (int dir = 0; dir < Maze.DIRECTIONS; dir++) {
+                int next = maze.neighbor(current, dir);
+                if (next >= 0 && distance[next] == UNREACHABLE) {
+                    distance[next] = nextDistance;
+                    queue.offer(next);
+                }
+            }
+        }
+        return distance;
+    }
+}
@@ -0,0 +1,125 @@
+package algorithms;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * File circulaire bornée et sans verrou qui transmet les cellules développées par un solveur
+ * à un lecteur unique (l'affichage), pour suivre l'exploration en direct.
+ * <p>
+ * Les solveurs publient par lots : une seule opération atomique réserve un lot entier de
+ * cases, puis chaque case est rendue visible au lecteur par une écriture ordonnée de son
+ * numéro de séquence. Le solveur n'attend jamais : si le lecteur a pris du retard et que la
+ * file est pleine, le lot est abandonné et compté dans {@link #getDropped()}. L'affichage voit
+ * alors un échantillon de l'exploration plutôt que de ralentir la résolution.
+ * <p>
+ * Plusieurs solveurs peuvent publier dans la même file ; un seul thread doit la vider.
+ */
+public final class ExplorationBuffer {
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private final int mask;
+    private final int[] cells;
+    // sequences[i] vaut p quand la case est libre pour la position p, p + 1 quand elle est remplie
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    // Position de lecture, propre au lecteur
+    private long head;
+
+    public ExplorationBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity nombre de cellules en attente au plus, arrondi à la puissance de deux supérieure
+     */
+    public ExplorationBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacité invalide : " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        mask = size - 1;
+        cells = new int[size];
+        sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public int capacity() {
+        return cells.length;
+    }
+
+    /**
+     * Publie les {@code count} premières cellules de {@code batch}, ou aucune si la file n'a pas
+     * la place. Ne bloque jamais.
+     *
+     * @return vrai si le lot a été publié
+     */
+    public boolean offer(int[] batch, int count) {
+        if (count <= 0) {
+            return true;
+        }
+        if (count > cells.length) {
+            dropped.addAndGet(count);
+            return false;
+        }
+        long position = tail.get();
+        while (true) {
+            // Le lecteur libère les cases dans l'ordre : si la dernière du lot est libre, toutes le sont
+            long last = position + count - 1;
+            long sequence = sequences.get((int) last & mask);
+            if (sequence == last) {
+                if (tail.compareAndSet(position, position + count)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (sequence < last) {
+                dropped.addAndGet(count);
+                return false;
+            } else {
+                position = tail.get(); // Un autre solveur a réservé ces cases entre-temps
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            long slot = position + i;
+            int index = (int) slot & mask;
+            cells[index] = batch[i];
+            sequences.lazySet(index, slot + 1);
+        }
+        return true;
+    }
+
+    /**
+     * Retire au plus {@code out.length} cellules publiées et les copie dans {@code out}.
+     * Réservé au thread lecteur.
+     *
+     * @return le nombre de cellules copiées
+     */
+    public int drain(int[] out) {
+        int count = 0;
+        long position = head;
+        while (count < out.length) {
+            int index = (int) position & mask;
+            if (sequences.get(index) != position + 1) {
+                break; // Vide, ou case réservée mais pas encore remplie
+            }
+            out[count++] = cells[index];
+            sequences.lazySet(index, position + cells.length);
+            position++;
+        }
+        head = position;
+        return count;
+    }
+
+    /**
+     * Nombre de cellules abandonnées parce que la file était pleine.
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+}
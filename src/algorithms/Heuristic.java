@@ -0,0 +1,17 @@
+package algorithms;
+
+import model.Maze;
+
+/**
+ * Estimation de la distance restante entre deux cellules, utilisée par {@link AStarSolver}.
+ * Pour que le chemin trouvé soit le plus court, l'estimation ne doit jamais dépasser
+ * la distance réelle (heuristique admissible).
+ */
+@FunctionalInterface
+public interface Heuristic {
+    // Distance de Manhattan : exacte dans un labyrinthe sans murs à 4 voisins
+    Heuristic MANHATTAN = (maze, cell, goal) ->
+            Math.abs(maze.rowOf(cell) - maze.rowOf(goal)) + Math.abs(maze.colOf(cell) - maze.colOf(goal));
+
+    int estimate(Maze maze, int cell, int goal);
+}
@@ -0,0 +1,125 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Tas binaire minimum de cellules indexées, avec des priorités {@code long}.
+ * Chaque cellule y figure au plus une fois ; sa position est suivie pour permettre
+ * de modifier sa priorité ou de la retirer en O(log n).
+ */
+class IntMinHeap {
+    private int[] cells;
+    private long[] keys;
+    // Position + 1 de chaque cellule dans le tas, 0 si elle n'y est pas
+    private final int[] positions;
+    private int size;
+
+    IntMinHeap(int cellCount) {
+        this.cells = new int[64];
+        this.keys = new long[64];
+        this.positions = new int[cellCount];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(int cell) {
+        return positions[cell] != 0;
+    }
+
+    long peekKey() {
+        return keys[0];
+    }
+
+    int peek() {
+        return cells[0];
+    }
+
+    // Insère la cellule ou remplace sa priorité si elle est déjà présente
+    void insertOrUpdate(int cell, long key) {
+        int pos = positions[cell] - 1;
+        if (pos < 0) {
+            if (size == cells.length) {
+                cells = Arrays.copyOf(cells, size << 1);
+                keys = Arrays.copyOf(keys, size << 1);
+            }
+            place(size++, cell, key);
+            siftUp(size - 1);
+        } else {
+            long old = keys[pos];
+            keys[pos] = key;
+            if (key < old) {
+                siftUp(pos);
+            } else {
+                siftDown(pos);
+            }
+        }
+    }
+
+    int poll() {
+        int top = cells[0];
+        removeAt(0);
+        return top;
+    }
+
+    void remove(int cell) {
+        int pos = positions[cell] - 1;
+        if (pos >= 0) {
+            removeAt(pos);
+        }
+    }
+
+    private void removeAt(int pos) {
+        positions[cells[pos]] = 0;
+        size--;
+        if (pos == size) {
+            return;
+        }
+        place(pos, cells[size], keys[size]);
+        siftDown(pos);
+        siftUp(pos);
+    }
+
+    private void siftUp(int pos) {
+        int cell = cells[pos];
+        long key = keys[pos];
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            place(pos, cells[parent], keys[parent]);
+            pos = parent;
+        }
+        place(pos, cell, key);
+    }
+
+    private void siftDown(int pos) {
+        int cell = cells[pos];
+        long key = keys[pos];
+        int half = size >>> 1;
+        while (pos < half) {
+            int child = (pos << 1) + 1;
+            if (child + 1 < size && keys[child + 1] < keys[child]) {
+                child++;
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            place(pos, cells[child], keys[child]);
+            pos = child;
+        }
+        place(pos, cell, key);
+    }
+
+    private void place(int pos, int cell, long key) {
+        cells[pos] = cell;
+        keys[pos] = key;
+        positions[cell] = pos + 1;
+    }
+}
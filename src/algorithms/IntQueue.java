@@ -0,0 +1,52 @@
+package algorithms;
+
+/**
+ * File FIFO d'entiers sur un tampon circulaire, sans boxing.
+ * La capacité double quand le tampon est plein.
+ */
+class IntQueue {
+    private int[] buffer;
+    private int head;
+    private int size;
+
+    IntQueue() {
+        this(64);
+    }
+
+    IntQueue(int initialCapacity) {
+        // Capacité en puissance de deux pour remplacer le modulo par un masque
+        buffer = new int[Integer.highestOneBit(Math.max(2, initialCapacity - 1)) << 1];
+    }
+
+    void offer(int value) {
+        if (size == buffer.length) {
+            grow();
+        }
+        buffer[(head + size) & (buffer.length - 1)] = value;
+        size++;
+    }
+
+    int poll() {
+        int value = buffer[head];
+        head = (head + 1) & (buffer.length - 1);
+        size--;
+        return value;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void grow() {
+        int[] larger = new int[buffer.length << 1];
+        int firstPart = buffer.length - head;
+        System.arraycopy(buffer, head, larger, 0, firstPart);
+        System.arraycopy(buffer, 0, larger, firstPart, head);
+        buffer = larger;
+        head = 0;
+    }
+}
@@ -0,0 +1,38 @@
+package algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Pile LIFO d'entiers sur un tableau extensible, sans boxing ni synchronisation.
+ */
+class IntStack {
+    private int[] elements;
+    private int size;
+
+    IntStack() {
+        this(64);
+    }
+
+    IntStack(int initialCapacity) {
+        elements = new int[Math.max(1, initialCapacity)];
+    }
+
+    void push(int value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, elements.length << 1);
+        }
+        elements[size++] = value;
+    }
+
+    int pop() {
+        return elements[--size];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+}
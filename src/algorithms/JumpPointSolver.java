@@ -0,0 +1,209 @@
+package algorithms;
+
+import model.Cell;
+import model.Maze;
+import java.util.*;
+
+/**
+ * Jump Point Search sur grille à 4 voisins et coût uniforme. Au lieu de pousser chaque
+ * voisin dans la liste ouverte, on avance en ligne droite tant que la direction ne révèle
+ * aucun voisin forcé : seuls ces points de saut sont développés par l'A* sous-jacent.
+ * Les chemins restent les plus courts. Le gain sur A* vient des zones ouvertes parsemées
+ * d'obstacles ; sur une grille entièrement vide, les sauts balayent toute la zone et un A*
+ * qui file droit vers l'arrivée reste plus rapide.
+ * <p>
+ * Un saut vertical doit vérifier à chaque pas qu'aucun saut horizontal ne part de la cellule.
+ * Les sauts horizontaux sont donc mémorisés pendant la recherche : toutes les cellules
+ * parcourues par un saut mènent au même point de saut, si bien que chaque cellule est balayée
+ * au plus une fois par direction, et non une fois par saut vertical qui la croise.
+ */
+public class JumpPointSolver extends AbstractMazeSolver {
+    // Même ordre que Maze : haut, bas, gauche, droite
+    private static final int[] DIR_ROW = {-1, 1, 0, 0};
+    private static final int[] DIR_COL = {0, 0, -1, 1};
+
+    @Override
+    List<Cell> search(SearchContext context, int start, int end) {
+        Maze maze = context.maze;
+        int cols = maze.getCols();
+        IntMinHeap open = new IntMinHeap(maze.getCellCount());
+        int[] cost = new int[maze.getCellCount()];
+        int endRow = maze.rowOf(end);
+        int endCol = maze.colOf(end);
+        // Sauts horizontaux déjà calculés, vers la gauche puis vers la droite
+        int[][] horizontal = new int[2][maze.getCellCount()];
+
+        context.visit(start);
+        open.insertOrUpdate(start, priority(0, distance(maze.rowOf(start), maze.colOf(start), endRow, endCol)));
+
+        while (!open.isEmpty()) {
+            int current = open.poll();
+            context.expand(current);
+
+            if (current == end) {
+                return buildPath(maze, context.parent, start, end);
+            }
+
+            int row = current / cols;
+            int col = current % cols;
+            if (current == start) {
+                // Aucun parent : toutes les directions sont explorées
+                for (int dir = 0; dir < Maze.DIRECTIONS; dir++) {
+                    int jumpPoint = jump(maze, horizontal, row, col, DIR_ROW[dir], DIR_COL[dir], end);
+                    relax(context, open, cost, current, jumpPoint, endRow, endCol);
+                }
+            } else {
+                int parent = context.parent[current];
+                int dr = Integer.signum(row - parent / cols);
+                int dc = Integer.signum(col - parent % cols);
+                if (dc != 0) {
+                    // Déplacement horizontal : on continue tout droit ou on tourne
+                    relax(context, open, cost, current, jump(maze, horizontal, row, col, 0, dc, end), endRow, endCol);
+                    relax(context, open, cost, current, jump(maze, horizontal, row, col, -1, 0, end), endRow, endCol);
+                    relax(context, open, cost, current, jump(maze, horizontal, row, col, 1, 0, end), endRow, endCol);
+                } else {
+                    relax(context, open, cost, current, jump(maze, horizontal, row, col, dr, 0, end), endRow, endCol);
+                    relax(context, open, cost, current, jump(maze, horizontal, row, col, 0, -1, end), endRow, endCol);
+                    relax(context, open, cost, current, jump(maze, horizontal, row, col, 0, 1, end), endRow, endCol);
+                }
+            }
+            context.trackFrontier(open.size());
+        }
+
+        return new ArrayList<>();
+    }
+
+    private static void relax(SearchContext context, IntMinHeap open, int[] cost,
+                              int from, int jumpPoint, int endRow, int endCol) {
+        if (jumpPoint < 0) {
+            return;
+        }
+        Maze maze = context.maze;
+        int row = maze.rowOf(jumpPoint);
+        int col = maze.colOf(jumpPoint);
+        // Les points de saut sont alignés avec leur parent : le coût du segment est sa longueur
+        int nextCost = cost[from] + distance(maze.rowOf(from), maze.colOf(from), row, col);
+        if (context.visit(jumpPoint, from) || nextCost < cost[jumpPoint]) {
+            context.parent[jumpPoint] = from;
+            cost[jumpPoint] = nextCost;
+            open.insertOrUpdate(jumpPoint, priority(nextCost, distance(row, col, endRow, endCol)));
+        }
+    }
+
+    /**
+     * Avance depuis (row, col) dans la direction (dr, dc) et renvoie le premier point de saut
+     * rencontré, ou -1 si un mur ou le bord est atteint avant.
+     */
+    private static int jump(Maze maze, int[][] horizontal, int row, int col, int dr, int dc, int end) {
+        if (dc != 0) {
+            return jumpHorizontal(maze, horizontal[dc < 0 ? 0 : 1], row, col, dc, end);
+        }
+        int cols = maze.getCols();
+        boolean hasLeft = col > 0;
+        boolean hasRight = col + 1 < cols;
+        // Les voisines de gauche et de droite de la cellule précédente sont gardées d'un pas à l'autre
+        boolean leftBefore = hasLeft && walkable(maze, row, col - 1);
+        boolean rightBefore = hasRight && walkable(maze, row, col + 1);
+        while (true) {
+            row += dr;
+            if (!walkable(maze, row, col)) {
+                return -1;
+            }
+            int index = maze.index(row, col);
+            if (index == end) {
+                return index;
+            }
+            boolean left = hasLeft && maze.isWalkable(index - 1);
+            boolean right = hasRight && maze.isWalkable(index + 1);
+            // Voisin forcé : une ouverture à gauche ou à droite qui n'existait pas juste avant
+            if ((left && !leftBefore) || (right && !rightBefore)) {
+                return index;
+            }
+            // En vertical, une cellule d'où part un saut horizontal est aussi un point de saut
+            if ((right && jumpHorizontal(maze, horizontal[1], row, col, 1, end) >= 0)
+                    || (left && jumpHorizontal(maze, horizontal[0], row, col, -1, end) >= 0)) {
+                return index;
+            }
+            leftBefore = left;
+            rightBefore = right;
+        }
+    }
+
+    // Saut horizontal mémorisé : memo[cellule] vaut 0 si inconnu, sinon le point de saut + 2 (1 pour aucun)
+    private static int jumpHorizontal(Maze maze, int[] memo, int row, int col, int dc, int end) {
+        int cols = maze.getCols();
+        int base = row * cols;
+        boolean hasAbove = row > 0;
+        boolean hasBelow = row + 1 < maze.getRows();
+        // Les voisines du dessus et du dessous de la cellule précédente sont gardées d'un pas à l'autre
+        boolean aboveBefore = hasAbove && maze.isWalkable(base - cols + col);
+        boolean belowBefore = hasBelow && maze.isWalkable(base + cols + col);
+        int from = col;
+        int result;
+        while (true) {
+            col += dc;
+            if (col < 0 || col >= cols || !maze.isWalkable(base + col)) {
+                result = -1;
+                break;
+            }
+            int index = base + col;
+            boolean above = hasAbove && maze.isWalkable(index - cols);
+            boolean below = hasBelow && maze.isWalkable(index + cols);
+            // Voisin forcé : une ouverture au-dessus ou en dessous qui n'existait pas juste avant
+            if (index == end || (above && !aboveBefore) || (below && !belowBefore)) {
+                result = index;
+                break;
+            }
+            if (memo[index] != 0) {
+                // La suite du segment a déjà été parcourue
+                result = memo[index] - 2;
+                break;
+            }
+            aboveBefore = above;
+            belowBefore = below;
+        }
+        // Depuis chaque cellule parcourue, le saut aboutit au même point
+        for (int c = from; c != col; c += dc) {
+            memo[base + c] = result + 2;
+        }
+        return result;
+    }
+
+    private static boolean walkable(Maze maze, int row, int col) {
+        return row >= 0 && row < maze.getRows() && col >= 0 && col < maze.getCols()
+                && maze.isWalkable(maze.index(row, col));
+    }
+
+    // Relie les points de saut successifs par les segments droits qui les séparent
+    private static List<Cell> buildPath(Maze maze, int[] parent, int start, int end) {
+        List<Cell> path = new ArrayList<>();
+        int current = end;
+        while (current != start) {
+            int previous = parent[current];
+            int dr = Integer.signum(maze.rowOf(previous) - maze.rowOf(current));
+            int dc = Integer.signum(maze.colOf(previous) - maze.colOf(current));
+            int step = dr * maze.getCols() + dc;
+            for (int cell = current; cell != previous; cell += step) {
+                path.add(maze.getCell(cell));
+            }
+            current = previous;
+        }
+        path.add(maze.getCell(start));
+
+        Collections.reverse(path);
+        return path;
+    }
+
+    private static int distance(int row, int col, int otherRow, int otherCol) {
+        return Math.abs(row - otherRow) + Math.abs(col - otherCol);
+    }
+
+    private static long priority(int cost, int estimate) {
+        return ((long) (cost + estimate) << 32) | estimate;
+    }
+
+    @Override
+    public String getName() {
+        return "JPS (Jump Point Search)";
+    }
+}
@@ -0,0 +1,215 @@
+package algorithms;
+
+import model.Cell;
+import model.CellChangeListener;
+import model.Maze;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Lifelong Planning A* : solveur incrémental pour un labyrinthe modifié entre deux requêtes.
+ * Le solveur garde d'une résolution à l'autre, pour chaque cellule, sa distance au départ
+ * {@code g} et une estimation en avance d'un pas {@code rhs} (meilleur voisin + 1). Il
+ * s'abonne au labyrinthe ({@link Maze#addCellChangeListener}) : quand des cellules deviennent
+ * ou cessent d'être des murs, seules celles-ci et leurs voisines sont remises en file, et la
+ * résolution suivante ne répare que la partie du chemin concernée, dans l'ordre A*.
+ * <p>
+ * La première résolution coûte autant qu'un A* ; les suivantes, avec le même labyrinthe, le
+ * même départ et la même arrivée, sont proportionnelles à l'effet des modifications. Changer
+ * de labyrinthe, de départ ou d'arrivée repart de zéro, tout comme un trop grand nombre de
+ * modifications accumulées. Les modifications et les résolutions doivent avoir lieu sur le
+ * même thread, ou être synchronisées par l'appelant. Appeler {@link #reset()} pour libérer
+ * l'état et se désabonner du labyrinthe.
+ */
+public class LPAStarSolver extends AbstractMazeSolver {
+    private static final int INFINITY = Integer.MAX_VALUE;
+    // Au-delà d'une cellule modifiée sur RESET_DIVISOR, repartir de zéro coûte moins cher que réparer
+    private static final int RESET_DIVISOR = 8;
+
+    private final CellChangeListener listener = (changed, index) -> cellChanged(index);
+    private Maze maze;
+    private int start = -1;
+    private int goal = -1;
+    private int[] g;
+    private int[] rhs;
+    private IntMinHeap open;
+    // Cellules modifiées depuis la dernière résolution
+    private IntQueue changes;
+    private boolean stale;
+
+    @Override
+    List<Cell> search(SearchContext context, int start, int end) {
+        if (context.maze != maze || start != this.start || end != goal || stale) {
+            initialize(context.maze, start, end);
+        } else {
+            applyChanges();
+        }
+        computeShortestPath(context);
+
+        if (g[goal] == INFINITY) {
+            return new ArrayList<>();
+        }
+        return tracePath();
+    }
+
+    // Seuls g et rhs servent : pas de tableau de parents à allouer à chaque résolution
+    @Override
+    boolean usesSearchState() {
+        return false;
+    }
+
+    /**
+     * Oublie l'état de recherche et se désabonne du labyrinthe.
+     */
+    public void reset() {
+        if (maze != null) {
+            maze.removeCellChangeListener(listener);
+        }
+        maze = null;
+        start = -1;
+        goal = -1;
+        g = null;
+        rhs = null;
+        open = null;
+        changes = null;
+        stale = false;
+    }
+
+    private void initialize(Maze maze, int start, int goal) {
+        if (maze != this.maze) {
+            reset();
+            maze.addCellChangeListener(listener);
+            this.maze = maze;
+            g = new int[maze.getCellCount()];
+            rhs = new int[maze.getCellCount()];
+        }
+        this.start = start;
+        this.goal = goal;
+        Arrays.fill(g, INFINITY);
+        Arrays.fill(rhs, INFINITY);
+        open = new IntMinHeap(maze.getCellCount());
+        changes = new IntQueue(16);
+        stale = false;
+
+        rhs[start] = 0;
+        open.insertOrUpdate(start, key(start));
+    }
+
+    private void cellChanged(int index) {
+        if (stale) {
+            return;
+        }
+        changes.offer(index);
+        if (changes.size() > maze.getCellCount() / RESET_DIVISOR) {
+            stale = true;
+        }
+    }
+
+    // Une cellule modifiée change les arêtes vers ses voisines : elle et ses voisines sont revues
+    private void applyChanges() {
+        while (!changes.isEmpty()) {
+            int cell = changes.poll();
+            updateCell(cell);
+            for (int dir = 0; dir < Maze.DIRECTIONS; dir++) {
+                int next = maze.neighbor(cell, dir);
+                if (next >= 0) {
+                    updateCell(next);
+                }
+            }
+        }
+    }
+
+    private void computeShortestPath(SearchContext context) {
+        while (!open.isEmpty() && (open.peekKey() < key(goal) || rhs[goal] != g[goal])) {
+            int current = open.peek();
+            // Avant de retirer la cellule : une annulation ici laisse l'état cohérent
+            context.expand(current);
+            open.poll();
+
+            if (g[current] > rhs[current]) {
+                // Distance améliorée : elle devient définitive et peut raccourcir les voisines
+                g[current] = rhs[current];
+                int candidate = g[current] + 1;
+                for (int dir = 0; dir < Maze.DIRECTIONS; dir++) {
+                    int next = maze.neighbor(current, dir);
+                    if (next >= 0 && next != start && candidate < rhs[next]) {
+                        rhs[next] = candidate;
+                        enqueue(next);
+                    }
+                }
+            } else {
+                // Distance devenue fausse (mur ajouté) : on l'invalide, ainsi que les voisines qui en dépendaient
+                int dependent = g[current] + 1;
+                g[current] = INFINITY;
+                updateCell(current);
+                for (int dir = 0; dir < Maze.DIRECTIONS; dir++) {
+                    int next = maze.neighbor(current, dir);
+                    if (next >= 0 && rhs[next] == dependent) {
+                        updateCell(next);
+                    }
+                }
+            }
+            context.trackFrontier(open.size());
+        }
+    }
+
+    // Recalcule rhs à partir des voisines puis remet la cellule en file si elle est incohérente
+    private void updateCell(int cell) {
+        if (cell != start) {
+            int best = INFINITY;
+            if (maze.isWalkable(cell)) {
+                for (int dir = 0; dir < Maze.DIRECTIONS; dir++) {
+                    int next = maze.neighbor(cell, dir);
+                    if (next >= 0 && g[next] != INFINITY && g[next] + 1 < best) {
+                        best = g[next] + 1;
+                    }
+                }
+            }
+            rhs[cell] = best;
+        }
+        enqueue(cell);
+    }
+
+    private void enqueue(int cell) {
+        if (g[cell] != rhs[cell]) {
+            open.insertOrUpdate(cell, key(cell));
+        } else {
+            open.remove(cell);
+        }
+    }
+
+    // Clé (min(g, rhs) + h, min(g, rhs)) comparée dans l'ordre lexicographique, sur un seul long
+    private long key(int cell) {
+        long distance = Math.min(g[cell], rhs[cell]);
+        long estimate = distance == INFINITY ? INFINITY : distance + Heuristic.MANHATTAN.estimate(maze, cell, goal);
+        return (estimate << 32) | distance;
+    }
+
+    // Descente depuis l'arrivée vers la voisine de plus petite distance, jusqu'au départ
+    private List<Cell> tracePath() {
+        List<Cell> path = new ArrayList<>(g[goal] + 1);
+        int current = goal;
+        path.add(maze.getCell(current));
+        while (current != start) {
+            int best = -1;
+            for (int dir = 0; dir < Maze.DIRECTIONS; dir++) {
+                int next = maze.neighbor(current, dir);
+                if (next >= 0 && g[next] != INFINITY && (best < 0 || g[next] < g[best])) {
+                    best = next;
+                }
+            }
+            current = best;
+            path.add(maze.getCell(current));
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    @Override
+    public String getName() {
+        return "LPA* (incrémental)";
+    }
+}
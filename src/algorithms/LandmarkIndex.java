@@ -0,0 +1,148 @@
+package algorithms;
+
+import model.Maze;
+
+import java.util.Arrays;
+
+/**
+ * Index de points de repère (heuristique ALT) pour répondre vite à de nombreuses requêtes
+ * départ/arrivée sur un même labyrinthe. On mémorise, pour quelques cellules repères, la
+ * distance exacte vers toutes les cellules ; l'inégalité triangulaire donne alors
+ * {@code |d(L, a) - d(L, b)| <= d(a, b)} pour tout repère L, une borne inférieure admissible.
+ * <p>
+ * La construction coûte un parcours en largeur complet par repère et {@code 4 * cellules}
+ * octets par repère. Les repères sont choisis par le point le plus éloigné : chacun maximise
+ * sa distance aux précédents, ce qui place les repères aux extrémités du labyrinthe.
+ * L'index est lié au labyrinthe donné, qui ne doit plus être modifié.
+ */
+public class LandmarkIndex implements Heuristic {
+    public static final int DEFAULT_LANDMARKS = 8;
+
+    private final Maze maze;
+    private final int[] landmarks;
+    // distances[i][cellule] : distance du repère i, Distances.UNREACHABLE hors de sa composante
+    private final int[][] distances;
+
+    private LandmarkIndex(Maze maze, int[] landmarks, int[][] distances) {
+        this.maze = maze;
+        this.landmarks = landmarks;
+        this.distances = distances;
+    }
+
+    public static LandmarkIndex build(Maze maze) {
+        return build(maze, DEFAULT_LANDMARKS);
+    }
+
+    public static LandmarkIndex build(Maze maze, int landmarkCount) {
+        if (landmarkCount < 1) {
+            throw new IllegalArgumentException("Il faut au moins un repère");
+        }
+        int seed = maze.getStartIndex() >= 0 ? maze.getStartIndex() : firstWalkable(maze);
+        if (seed < 0) {
+            return new LandmarkIndex(maze, new int[0], new int[0][]);
+        }
+
+        int[] landmarks = new int[landmarkCount];
+        int[][] distances = new int[landmarkCount][];
+        // Distance de chaque cellule au repère le plus proche déjà choisi
+        int[] nearest = Distances.breadthFirst(maze, seed);
+        int count = 0;
+        while (count < landmarkCount) {
+            int farthest = argMax(nearest);
+            if (farthest < 0 || (count > 0 && nearest[farthest] == 0)) {
+                break; // Composante épuisée : moins de cellules que de repères demandés
+            }
+            landmarks[count] = farthest;
+            distances[count] = Distances.breadthFirst(maze, farthest);
+            if (count == 0) {
+                // Le premier repère remplace le point de départ du choix
+                nearest = distances[0].clone();
+            } else {
+                for (int cell = 0; cell < nearest.length; cell++) {
+                    nearest[cell] = Math.min(nearest[cell], distances[count][cell]);
+                }
+            }
+            count++;
+        }
+
+        if (count < landmarkCount) {
+            landmarks = Arrays.copyOf(landmarks, count);
+            distances = Arrays.copyOf(distances, count);
+        }
+        return new LandmarkIndex(maze, landmarks, distances);
+    }
+
+    /**
+     * Borne inférieure de la distance entre {@code a} et {@code b}, ou
+     * {@link Integer#MAX_VALUE} si un repère prouve qu'elles ne sont pas reliées.
+     */
+    public int lowerBound(int a, int b) {
+        int bound = 0;
+        for (int[] distance : distances) {
+            int da = distance[a];
+            int db = distance[b];
+            if (da == Distances.UNREACHABLE || db == Distances.UNREACHABLE) {
+                if (da != db) {
+                    return Integer.MAX_VALUE; // L'une est dans la composante du repère, pas l'autre
+                }
+                continue;
+            }
+            bound = Math.max(bound, Math.abs(da - db));
+        }
+        return bound;
+    }
+
+    /**
+     * Heuristique pour {@link AStarSolver} : la meilleure des bornes des repères et de Manhattan.
+     */
+    @Override
+    public int estimate(Maze maze, int cell, int goal) {
+        if (maze != this.maze) {
+            throw new IllegalArgumentException("L'index a été construit pour un autre labyrinthe");
+        }
+        int bound = lowerBound(cell, goal);
+        if (bound == Integer.MAX_VALUE) {
+            // Cellule séparée du but : toute valeur est admissible, on reste loin du débordement
+            return maze.getCellCount();
+        }
+        return Math.max(bound, MANHATTAN.estimate(maze, cell, goal));
+    }
+
+    public Maze getMaze() {
+        return maze;
+    }
+
+    public int getLandmarkCount() {
+        return landmarks.length;
+    }
+
+    public int getLandmark(int i) {
+        return landmarks[i];
+    }
+
+    /**
+     * Distance exacte du repère {@code i} à {@code cell}, ou -1 si elle n'est pas accessible.
+     */
+    public int distanceFromLandmark(int i, int cell) {
+        return distances[i][cell];
+    }
+
+    private static int firstWalkable(Maze maze) {
+        for (int cell = 0; cell < maze.getCellCount(); cell++) {
+            if (maze.isWalkable(cell)) {
+                return cell;
+            }
+        }
+        return -1;
+    }
+
+    private static int argMax(int[] values) {
+        int best = -1;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != Distances.UNREACHABLE && (best < 0 || values[i] > values[best])) {
+                best = i;
+            }
+        }
+        return best;
+    }
+}
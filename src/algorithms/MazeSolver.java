@@ -2,11 +2,40 @@ package algorithms;
 
 import model.Cell;
 import model.Maze;
+
+import java.util.ArrayList;
 import java.util.List;
 
 public interface MazeSolver {
     List<Cell> solve(Maze maze);
+
+    /**
+     * Chemin entre deux cellules quelconques (indices), sans modifier le départ et l'arrivée du
+     * labyrinthe, ou liste vide si l'une d'elles n'est pas traversable. Par défaut, résout une
+     * copie où le départ et l'arrivée ont été déplacés ; les solveurs du projet évitent cette copie.
+     */
+    default List<Cell> solve(Maze maze, int start, int end) {
+        if (start < 0 || end < 0 || !maze.isWalkable(start) || !maze.isWalkable(end)) {
+            return new ArrayList<>();
+        }
+        Maze copy = new Maze(maze);
+        copy.setCell(start, Cell.CellType.START);
+        copy.setCell(end, Cell.CellType.END);
+        // Cellules rattachées au labyrinthe d'origine plutôt qu'à la copie
+        List<Cell> path = new ArrayList<>();
+        for (Cell cell : solve(copy)) {
+            path.add(maze.getCell(cell.getIndex()));
+        }
+        return path;
+    }
+
     String getName();
+    // Publie les cellules développées par les prochaines résolutions dans la file donnée (null pour arrêter).
+    // Sans effet par défaut : un solveur qui ne suit pas son exploration n'a rien à faire
+    default void setExplorationBuffer(ExplorationBuffer buffer) {
+    }
     int getStepCount();
     long getExecutionTime();
+    // Mesures détaillées de la dernière résolution, null si aucune n'a encore eu lieu
+    SolveMetrics getLastMetrics();
 } 
\ No newline at end of file
@@ -0,0 +1,212 @@
+package algorithms;
+
+import model.Cell;
+import model.Maze;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * BFS synchrone par niveaux : chaque frontière est découpée en tranches développées en
+ * parallèle par un {@link ForkJoinPool}. Une cellule est revendiquée par un CAS sur le bitmap
+ * des cellules visitées, seul le gagnant écrit son parent : le chemin a donc la même longueur
+ * que celui de {@link BFSSolver}. Utile sur les très grandes grilles ; sur les petites, le coût
+ * de synchronisation dépasse le gain.
+ * <p>
+ * Une résolution interrompue (annulation ou délai de {@link SolverService}) s'arrête pendant le
+ * niveau en cours : le thread appelant cesse aussitôt d'attendre, les tranches déjà commencées
+ * finissent leurs cellules ({@value #CHUNK_SIZE} au plus par défaut) et les suivantes ne
+ * démarrent pas.
+ */
+public class ParallelBFSSolver extends AbstractMazeSolver {
+    // En dessous de cette taille, une tranche de frontière est traitée sur un seul thread
+    private static final int CHUNK_SIZE = 4096;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public ParallelBFSSolver() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public ParallelBFSSolver(ForkJoinPool pool) {
+        this(pool, CHUNK_SIZE);
+    }
+
+    // Tranches plus petites pour exercer le découpage parallèle sur de petites grilles (tests)
+    ParallelBFSSolver(ForkJoinPool pool, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Taille de tranche invalide : " + chunkSize);
+        }
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    List<Cell> search(SearchContext context, int start, int end) {
+        Maze maze = context.maze;
+        Level shared = new Level(maze, new AtomicLongArray((maze.getCellCount() + 63) >>> 6),
+                context.parent, chunkSize);
+        int[] parent = context.parent;
+
+        claim(shared.visited, start);
+        int[] frontier = {start};
+        int frontierSize = 1;
+
+        while (frontierSize > 0) {
+            for (int i = 0; i < frontierSize; i++) {
+                context.expand(frontier[i]);
+                if (frontier[i] == end) {
+                    return SearchPaths.fromParents(maze, parent, start, end);
+                }
+            }
+
+            LevelTask level = new LevelTask(shared, frontier, 0, frontierSize);
+            Frontier next = frontierSize <= chunkSize ? level.compute() : await(pool.submit(level), shared);
+            frontier = next.cells;
+            frontierSize = next.size;
+            context.trackFrontier(frontierSize);
+        }
+
+        return new ArrayList<>();
+    }
+
+    // Les cellules visitées sont dans un bitmap atomique propre à la résolution
+    @Override
+    boolean usesVisited() {
+        return false;
+    }
+
+    @Override
+    public String getName() {
+        return "BFS parallèle";
+    }
+
+    // Attend la fin du niveau ; contrairement à pool.invoke, l'attente est interruptible
+    private static Frontier await(ForkJoinTask<Frontier> level, Level shared) {
+        try {
+            return level.get();
+        } catch (InterruptedException e) {
+            shared.cancelled.set(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Résolution interrompue");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    // Pose le bit de la cellule ; vrai seulement pour le thread qui l'a posé en premier
+    private static boolean claim(AtomicLongArray visited, int cell) {
+        int word = cell >>> 6;
+        long mask = 1L << cell;
+        long current = visited.get(word);
+        while ((current & mask) == 0) {
+            if (visited.compareAndSet(word, current, current | mask)) {
+                return true;
+            }
+            current = visited.get(word);
+        }
+        return false;
+    }
+
+    private static final class Frontier {
+        int[] cells;
+        int size;
+
+        Frontier(int capacity) {
+            cells = new int[capacity];
+        }
+
+        void add(int cell) {
+            if (size == cells.length) {
+                cells = Arrays.copyOf(cells, Math.max(16, size << 1));
+            }
+            cells[size++] = cell;
+        }
+
+        Frontier append(Frontier other) {
+            if (size + other.size > cells.length) {
+                cells = Arrays.copyOf(cells, size + other.size);
+            }
+            System.arraycopy(other.cells, 0, cells, size, other.size);
+            size += other.size;
+            return this;
+        }
+    }
+
+    // État commun à toutes les tranches d'une résolution
+    private static final class Level {
+        final Maze maze;
+        final AtomicLongArray visited;
+        final int[] parent;
+        final int chunkSize;
+        // Levé quand le thread appelant est interrompu : les tranches pas encore commencées s'arrêtent
+        final AtomicBoolean cancelled = new AtomicBoolean();
+
+        Level(Maze maze, AtomicLongArray visited, int[] parent, int chunkSize) {
+            this.maze = maze;
+            this.visited = visited;
+            this.parent = parent;
+            this.chunkSize = chunkSize;
+        }
+    }
+
+    private static final class LevelTask extends RecursiveTask<Frontier> {
+        private static final long serialVersionUID = 1L;
+
+        private final Level shared;
+        private final int[] frontier;
+        private final int from;
+        private final int to;
+
+        LevelTask(Level shared, int[] frontier, int from, int to) {
+            this.shared = shared;
+            this.frontier = frontier;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Frontier compute() {
+            if (shared.cancelled.get()) {
+                return new Frontier(0); // Résultat ignoré : l'appelant a déjà abandonné
+            }
+            if (to - from <= shared.chunkSize) {
+                Maze maze = shared.maze;
+                AtomicLongArray visited = shared.visited;
+                int[] parent = shared.parent;
+                Frontier next = new Frontier((to - from) * 2);
+                for (int i = from; i < to; i++) {
+                    int current = frontier[i];
+                    for (int dir = 0; dir < Maze.DIRECTIONS; dir++) {
+                        int cell = maze.neighbor(current, dir);
+                        if (cell >= 0 && claim(visited, cell)) {
+                            parent[cell] = current;
+                            next.add(cell);
+                        }
+                    }
+                }
+                return next;
+            }
+
+            int middle = (from + to) >>> 1;
+            LevelTask left = new LevelTask(shared, frontier, from, middle);
+            LevelTask right = new LevelTask(shared, frontier, middle, to);
+            right.fork();
+            Frontier result = left.compute();
+            return result.append(right.join());
+        }
+    }
+}
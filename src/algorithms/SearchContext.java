@@ -0,0 +1,89 @@
+package algorithms;
+
+import model.Maze;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * État d'une résolution : cellules visitées, parents et compteurs. Les parents et les cellules
+ * visitées sont absents (null) pour les solveurs qui n'en ont pas besoin.
+ * Un contexte est créé pour chaque appel à {@link MazeSolver#solve(Maze)}, le labyrinthe
+ * n'est donc jamais modifié et peut être partagé entre plusieurs résolutions concurrentes.
+ */
+final class SearchContext {
+    private static final int EXPLORATION_BATCH = 64;
+
+    final Maze maze;
+    final int[] parent;
+    private final long[] visited;
+    private int expanded;
+    private int peakFrontier;
+    // Suivi en direct facultatif (null sinon) : les cellules développées sont publiées par lots
+    private final ExplorationBuffer exploration;
+    private final int[] batch;
+    private int batchSize;
+
+    SearchContext(Maze maze, ExplorationBuffer exploration, boolean withParents, boolean withVisited) {
+        this.maze = maze;
+        this.parent = withParents ? new int[maze.getCellCount()] : null;
+        this.visited = withVisited ? new long[(maze.getCellCount() + 63) >>> 6] : null;
+        this.exploration = exploration;
+        this.batch = exploration == null ? null : new int[EXPLORATION_BATCH];
+    }
+
+    boolean isVisited(int cell) {
+        return (visited[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    void visit(int cell) {
+        visited[cell >>> 6] |= 1L << cell;
+    }
+
+    // Marque la cellule et mémorise son parent, si elle n'a pas encore été atteinte
+    boolean visit(int cell, int from) {
+        long mask = 1L << cell;
+        int word = cell >>> 6;
+        if ((visited[word] & mask) != 0) {
+            return false;
+        }
+        visited[word] |= mask;
+        parent[cell] = from;
+        return true;
+    }
+
+    void expand(int cell) {
+        // Vérification périodique pour qu'une résolution annulée s'arrête rapidement
+        if ((++expanded & 0x3FF) == 0 && Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Résolution interrompue");
+        }
+        if (exploration != null) {
+            batch[batchSize++] = cell;
+            if (batchSize == batch.length) {
+                flushExploration();
+            }
+        }
+    }
+
+    // Publie le dernier lot incomplet ; appelé en fin de résolution
+    void flushExploration() {
+        if (exploration != null && batchSize > 0) {
+            exploration.offer(batch, batchSize);
+            batchSize = 0;
+        }
+    }
+
+    // À appeler après chaque développement avec la taille courante de la frontière
+    void trackFrontier(int size) {
+        if (size > peakFrontier) {
+            peakFrontier = size;
+        }
+    }
+
+    int getExpanded() {
+        return expanded;
+    }
+
+    int getPeakFrontier() {
+        return peakFrontier;
+    }
+}
@@ -0,0 +1,30 @@
+package algorithms;
+
+import model.Cell;
+import model.Maze;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reconstruction des chemins à partir d'un tableau de parents indexé par cellule.
+ */
+final class SearchPaths {
+    private SearchPaths() {
+    }
+
+    static List<Cell> fromParents(Maze maze, int[] parent, int start, int end) {
+        List<Cell> path = new ArrayList<>();
+        int current = end;
+
+        while (current != start) {
+            path.add(maze.getCell(current));
+            current = parent[current];
+        }
+        path.add(maze.getCell(start));
+
+        Collections.reverse(path);
+        return path;
+    }
+}
@@ -0,0 +1,104 @@
+package algorithms;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+
+/**
+ * Mesures d'une résolution : durée en nanosecondes, cellules développées, taille maximale
+ * de la frontière, octets alloués par le thread du solveur et longueur du chemin.
+ * Les allocations valent -1 quand la JVM ne sait pas les mesurer ; pour un solveur
+ * parallèle, seules celles du thread appelant sont comptées.
+ */
+public class SolveMetrics {
+    public static final String CSV_HEADER =
+            "solver,elapsed_ns,cells_expanded,peak_frontier,allocated_bytes,path_length";
+
+    private final String solverName;
+    private final long elapsedNanos;
+    private final int cellsExpanded;
+    private final int peakFrontier;
+    private final long allocatedBytes;
+    private final int pathLength;
+
+    public SolveMetrics(String solverName, long elapsedNanos, int cellsExpanded, int peakFrontier,
+                        long allocatedBytes, int pathLength) {
+        this.solverName = solverName;
+        this.elapsedNanos = elapsedNanos;
+        this.cellsExpanded = cellsExpanded;
+        this.peakFrontier = peakFrontier;
+        this.allocatedBytes = allocatedBytes;
+        this.pathLength = pathLength;
+    }
+
+    public String getSolverName() {
+        return solverName;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getElapsedMillis() {
+        return elapsedNanos / 1_000_000.0;
+    }
+
+    public int getCellsExpanded() {
+        return cellsExpanded;
+    }
+
+    public int getPeakFrontier() {
+        return peakFrontier;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public int getPathLength() {
+        return pathLength;
+    }
+
+    public String toCsvRow() {
+        return String.format(Locale.ROOT, "%s,%d,%d,%d,%d,%d", csvField(solverName), elapsedNanos,
+                cellsExpanded, peakFrontier, allocatedBytes, pathLength);
+    }
+
+    public String toJson() {
+        return String.format(Locale.ROOT,
+                "{\"solver\":\"%s\",\"elapsedNs\":%d,\"cellsExpanded\":%d,\"peakFrontier\":%d,"
+                        + "\"allocatedBytes\":%d,\"pathLength\":%d}",
+                solverName.replace("\\", "\\\\").replace("\"", "\\\""), elapsedNanos,
+                cellsExpanded, peakFrontier, allocatedBytes, pathLength);
+    }
+
+    @Override
+    public String toString() {
+        return toJson();
+    }
+
+    /**
+     * Octets alloués jusqu'ici par le thread courant, ou -1 si la mesure n'est pas disponible.
+     */
+    static long currentThreadAllocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+            if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled()) {
+                return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Champ CSV : entre guillemets, guillemets doublés, s'il contient une virgule, un guillemet
+     * ou une fin de ligne.
+     */
+    public static String csvField(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,50 @@
+package algorithms;
+
+import model.Cell;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Résultat figé d'une résolution : le chemin et les statistiques du solveur au moment
+ * où elle s'est terminée.
+ */
+public class SolveResult {
+    private final String solverName;
+    private final List<Cell> path;
+    private final int stepCount;
+    private final long executionTime;
+    private final SolveMetrics metrics;
+
+    public SolveResult(MazeSolver solver, List<Cell> path) {
+        this.solverName = solver.getName();
+        this.path = Collections.unmodifiableList(path);
+        this.stepCount = solver.getStepCount();
+        this.executionTime = solver.getExecutionTime();
+        this.metrics = solver.getLastMetrics();
+    }
+
+    public String getSolverName() {
+        return solverName;
+    }
+
+    public List<Cell> getPath() {
+        return path;
+    }
+
+    public boolean isSolved() {
+        return !path.isEmpty();
+    }
+
+    public int getStepCount() {
+        return stepCount;
+    }
+
+    public long getExecutionTime() {
+        return executionTime;
+    }
+
+    public SolveMetrics getMetrics() {
+        return metrics;
+    }
+}
@@ -0,0 +1,94 @@
+package algorithms;
+
+import model.Cell;
+import model.Maze;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Exécute plusieurs solveurs en parallèle sur un même labyrinthe, sur un pool de threads borné.
+ * Chaque résolution est livrée sous forme de {@link Future} : elle peut être annulée,
+ * et elle l'est automatiquement si elle dépasse le délai donné à partir de son démarrage.
+ * Un même objet {@link MazeSolver} ne doit pas être soumis deux fois en même temps.
+ */
+public class SolverService implements AutoCloseable {
+    private final ExecutorService executor;
+    private final ScheduledExecutorService watchdog;
+
+    public SolverService() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public SolverService(int threads) {
+        this.executor = Executors.newFixedThreadPool(threads, daemonThreads("solver"));
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(daemonThreads("solver-timeout"));
+    }
+
+    /**
+     * Lance une résolution. Un délai nul ou négatif signifie « pas de limite ».
+     */
+    public Future<SolveResult> submit(Maze maze, MazeSolver solver, long timeout, TimeUnit unit) {
+        SolveTask task = new SolveTask(maze, solver, timeout, unit);
+        executor.execute(task);
+        return task;
+    }
+
+    public List<Future<SolveResult>> solveAll(Maze maze, List<? extends MazeSolver> solvers,
+                                              long timeout, TimeUnit unit) {
+        List<Future<SolveResult>> futures = new ArrayList<>(solvers.size());
+        for (MazeSolver solver : solvers) {
+            futures.add(submit(maze, solver, timeout, unit));
+        }
+        return futures;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        watchdog.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private final class SolveTask extends FutureTask<SolveResult> {
+        private final long timeout;
+        private final TimeUnit unit;
+        private volatile ScheduledFuture<?> timer;
+
+        SolveTask(Maze maze, MazeSolver solver, long timeout, TimeUnit unit) {
+            super(() -> {
+                List<Cell> path = solver.solve(maze);
+                return new SolveResult(solver, path);
+            });
+            this.timeout = timeout;
+            this.unit = unit;
+        }
+
+        @Override
+        public void run() {
+            // Le délai court à partir du démarrage effectif, pas de l'attente dans la file
+            if (timeout > 0 && !isDone()) {
+                timer = watchdog.schedule(() -> cancel(true), timeout, unit);
+            }
+            super.run();
+        }
+
+        @Override
+        protected void done() {
+            ScheduledFuture<?> pending = timer;
+            if (pending != null) {
+                pending.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package algorithms;
+
+import java.util.List;
+
+/**
+ * Solveurs disponibles par nom court, pour la ligne de commande et les benchmarks.
+ * Chaque appel à {@link #create} renvoie une nouvelle instance.
+ */
+public final class Solvers {
+    public static final List<String> NAMES =
+            List.of("dfs", "bfs", "astar", "bidirectional", "jps", "parallel-bfs", "lpa");
+
+    private Solvers() {
+    }
+
+    public static MazeSolver create(String name) {
+        switch (name) {
+            case "bfs":
+                return new BFSSolver();
+            case "dfs":
+                return new DFSSolver();
+            case "astar":
+                return new AStarSolver();
+            case "bidirectional":
+                return new BidirectionalBFSSolver();
+            case "jps":
+                return new JumpPointSolver();
+            case "parallel-bfs":
+                return new ParallelBFSSolver();
+            case "lpa":
+                return new LPAStarSolver();
+            default:
+                throw new IllegalArgumentException("Solveur inconnu : " + name);
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package cli;
+
+import algorithms.MazeSolver;
+import algorithms.SolveMetrics;
+import algorithms.SolveResult;
+import algorithms.SolverService;
+import algorithms.Solvers;
+import generators.Generators;
+import model.Maze;
+import utils.MazeBinaryFormat;
+import utils.MazeLoader;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Mode batch non interactif : résout une liste de labyrinthes (fichiers, répertoires ou
+ * générateurs) avec les solveurs choisis et écrit une ligne CSV par labyrinthe et par solveur.
+ * Les labyrinthes sont chargés et résolus par un pool de travailleurs ; au plus un labyrinthe
+ * par travailleur est en mémoire, et les lignes sont écrites dans l'ordre des entrées.
+ */
+public final class BatchRunner {
+    public static final String CSV_HEADER = "maze,rows,cols,load_ns,status," + SolveMetrics.CSV_HEADER;
+
+    private static final String USAGE = String.join("\n",
+            "Usage : --batch [options] entrée...",
+            "  entrée : fichier (.txt ou " + MazeBinaryFormat.EXTENSION + "), répertoire (parcouru récursivement)",
+            "           ou générateur gen:<type>:<lignes>x<colonnes>[:seed=N][:count=N][:density=D]",
+            "           types : " + String.join(", ", Generators.NAMES),
+            "  --solvers a,b,...  solveurs parmi " + String.join(", ", Solvers.NAMES)
+                    + " (défaut : tous sauf parallel-bfs et lpa)",
+            "  --threads N        nombre de travailleurs (défaut : nombre de processeurs)",
+            "  --timeout S        délai par résolution en secondes, 0 = aucun (défaut : 60)",
+            "  --output fichier   fichier CSV (défaut : sortie standard)");
+
+    private static final double DEFAULT_DENSITY = 0.3;
+    // Nombre de colonnes de métriques laissées vides quand la résolution n'a pas abouti
+    private static final int METRIC_COLUMNS = SolveMetrics.CSV_HEADER.split(",").length - 1;
+
+    private final List<String> solverNames;
+    private final int threads;
+    private final long timeoutSeconds;
+    private final List<MazeSource> sources;
+
+    private BatchRunner(List<String> solverNames, int threads, long timeoutSeconds, List<MazeSource> sources) {
+        this.solverNames = solverNames;
+        this.threads = threads;
+        this.timeoutSeconds = timeoutSeconds;
+        this.sources = sources;
+    }
+
+    /**
+     * Point d'entrée du mode batch. Renvoie le code de sortie du programme :
+     * 0 si tout s'est exécuté, 1 si un labyrinthe n'a pas pu être chargé, 2 si les arguments sont invalides.
+     */
+    public static int run(String[] args) {
+        List<String> solverNames = new ArrayList<>(Solvers.NAMES);
+        solverNames.remove("parallel-bfs");
+        // LPA* n'apporte rien sur une résolution unique : c'est un A* qui garde son état
+        solverNames.remove("lpa");
+        int threads = Runtime.getRuntime().availableProcessors();
+        long timeoutSeconds = 60;
+        String output = null;
+        List<MazeSource> sources = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--solvers":
+                        solverNames = Arrays.asList(value(args, ++i).split(","));
+                        for (String name : solverNames) {
+                            Solvers.create(name); // Vérifie le nom dès maintenant
+                        }
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(value(args, ++i));
+                        if (threads < 1) {
+                            throw new IllegalArgumentException("Il faut au moins un travailleur");
+                        }
+                        break;
+                    case "--timeout":
+                        timeoutSeconds = Long.parseLong(value(args, ++i));
+                        break;
+                    case "--output":
+                        output = value(args, ++i);
+                        break;
+                    case "--help":
+                        System.out.println(USAGE);
+                        return 0;
+                    default:
+                        addSources(args[i], sources);
+                        break;
+                }
+            }
+            if (sources.isEmpty()) {
+                throw new IllegalArgumentException("Aucun labyrinthe à résoudre");
+            }
+        } catch (IllegalArgumentException | IOException e) {
+            System.err.println("Erreur : " + e.getMessage());
+            System.err.println(USAGE);
+            return 2;
+        }
+
+        BatchRunner runner = new BatchRunner(solverNames, threads, timeoutSeconds, sources);
+        if (output == null) {
+            return runner.execute(System.out);
+        }
+        try (PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(output)), false, "UTF-8")) {
+            return runner.execute(out);
+        } catch (IOException e) {
+            System.err.println("Erreur lors de l'écriture des résultats : " + e.getMessage());
+            return 2;
+        }
+    }
+
+    private static String value(String[] args, int i) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Valeur manquante après " + args[i - 1]);
+        }
+        return args[i];
+    }
+
+    private static void addSources(String input, List<MazeSource> sources) throws IOException {
+        if (input.startsWith("gen:")) {
+            sources.addAll(GeneratedMaze.parse(input));
+            return;
+        }
+        Path path = Paths.get(input);
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> files = Files.walk(path)) {
+                for (Path file : files.filter(Files::isRegularFile)
+                        .filter(BatchRunner::isMazeFile)
+                        .sorted()
+                        .collect(Collectors.toList())) {
+                    sources.add(new MazeFile(file));
+                }
+            }
+        } else if (Files.isRegularFile(path)) {
+            sources.add(new MazeFile(path));
+        } else {
+            throw new IllegalArgumentException("Entrée introuvable : " + input);
+        }
+    }
+
+    private static boolean isMazeFile(Path file) {
+        String name = file.getFileName().toString();
+        return name.endsWith(".txt") || MazeBinaryFormat.isBinaryFile(name);
+    }
+
+    private int execute(PrintStream out) {
+        long startTime = System.nanoTime();
+        int solved = 0;
+        int failed = 0;
+        int loadErrors = 0;
+
+        out.println(CSV_HEADER);
+        // Chaque travailleur attend ses résolutions : le service n'a pas besoin de plus de threads
+        ExecutorService workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (SolverService service = new SolverService(threads)) {
+            List<Future<List<Row>>> pending = new ArrayList<>(sources.size());
+            for (MazeSource source : sources) {
+                pending.add(workers.submit(() -> solveMaze(source, service)));
+            }
+            for (Future<List<Row>> future : pending) {
+                for (Row row : future.get()) {
+                    out.println(row.line);
+                    if (row.status.equals("solved")) {
+                        solved++;
+                    } else if (row.status.equals("load-error")) {
+                        loadErrors++;
+                    } else {
+                        failed++;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 1;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            workers.shutdownNow();
+            out.flush();
+        }
+
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        System.err.printf("%d labyrinthes, %d résolus, %d sans solution ou échoués, %d illisibles en %.2f s (%.1f labyrinthes/s)%n",
+                sources.size(), solved, failed, loadErrors, seconds, sources.size() / seconds);
+        return loadErrors == 0 ? 0 : 1;
+    }
+
+    private List<Row> solveMaze(MazeSource source, SolverService service) throws InterruptedException {
+        List<Row> rows = new ArrayList<>(solverNames.size());
+        String name = SolveMetrics.csvField(source.name());
+        long loadStart = System.nanoTime();
+        Maze maze;
+        try {
+            maze = source.load();
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Impossible de charger " + source.name() + " : " + e.getMessage());
+            rows.add(new Row("load-error", name + ",,,,load-error" + ",".repeat(METRIC_COLUMNS + 1)));
+            return rows;
+        }
+        long loadNanos = System.nanoTime() - loadStart;
+        String prefix = name + "," + maze.getRows() + "," + maze.getCols() + "," + loadNanos + ",";
+
+        for (String solverName : solverNames) {
+            MazeSolver solver = Solvers.create(solverName);
+            String status;
+            String metrics;
+            try {
+                SolveResult result = service.submit(maze, solver, timeoutSeconds, TimeUnit.SECONDS).get();
+                status = result.isSolved() ? "solved" : "unsolved";
+                metrics = result.getMetrics().toCsvRow();
+            } catch (CancellationException e) {
+                status = "timeout";
+                metrics = SolveMetrics.csvField(solver.getName()) + ",".repeat(METRIC_COLUMNS);
+            } catch (ExecutionException e) {
+                status = "error";
+                metrics = SolveMetrics.csvField(solver.getName()) + ",".repeat(METRIC_COLUMNS);
+            }
+            rows.add(new Row(status, prefix + status + "," + metrics));
+        }
+        return rows;
+    }
+
+    private static final class Row {
+        final String status;
+        final String line;
+
+        Row(String status, String line) {
+            this.status = status;
+            this.line = line;
+        }
+    }
+
+    private interface MazeSource {
+        String name();
+
+        Maze load() throws IOException;
+    }
+
+    private static final class MazeFile implements MazeSource {
+        private final Path path;
+
+        MazeFile(Path path) {
+            this.path = path;
+        }
+
+        @Override
+        public String name() {
+            return path.toString();
+        }
+
+        @Override
+        public Maze load() throws IOException {
+            return MazeLoader.loadFromFile(path.toString());
+        }
+    }
+
+    private static final class GeneratedMaze implements MazeSource {
+        private final String type;
+        private final int rows;
+        private final int cols;
+        private final long seed;
+        private final double density;
+
+        GeneratedMaze(String type, int rows, int cols, long seed, double density) {
+            this.type = type;
+            this.rows = rows;
+            this.cols = cols;
+            this.seed = seed;
+            this.density = density;
+        }
+
+        // gen:<type>:<lignes>x<colonnes>[:seed=N][:count=N][:density=D], count donne les graines seed..seed+count-1
+        static List<MazeSource> parse(String spec) {
+            String[] parts = spec.split(":");
+            if (parts.length < 3) {
+                throw new IllegalArgumentException("Générateur invalide : " + spec);
+            }
+            String type = parts[1];
+            Generators.create(type, 0, DEFAULT_DENSITY); // Vérifie le nom dès maintenant
+            String[] size = parts[2].split("x");
+            if (size.length != 2) {
+                throw new IllegalArgumentException("Taille invalide : " + parts[2]);
+            }
+            int rows = Integer.parseInt(size[0]);
+            int cols = Integer.parseInt(size[1]);
+            long seed = 0;
+            int count = 1;
+            double density = DEFAULT_DENSITY;
+            for (int i = 3; i < parts.length; i++) {
+                String[] option = parts[i].split("=", 2);
+                if (option.length != 2) {
+                    throw new IllegalArgumentException("Option invalide : " + parts[i]);
+                }
+                switch (option[0]) {
+                    case "seed":
+                        seed = Long.parseLong(option[1]);
+                        break;
+                    case "count":
+                        count = Integer.parseInt(option[1]);
+                        break;
+                    case "density":
+                        density = Double.parseDouble(option[1]);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Option inconnue : " + option[0]);
+                }
+            }
+
+            List<MazeSource> sources = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                sources.add(new GeneratedMaze(type, rows, cols, seed + i, density));
+            }
+            return sources;
+        }
+
+        @Override
+        public String name() {
+            String name = "gen:" + type + ":" + rows + "x" + cols + ":seed=" + seed;
+            return type.equals("random") ? name + ":density=" + density : name;
+        }
+
+        @Override
+        public Maze load() {
+            return Generators.create(type, seed, density).generate(rows, cols);
+        }
+    }
+}
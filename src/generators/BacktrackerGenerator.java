@@ -0,0 +1,54 @@
+package generators;
+
+import java.util.Random;
+
+/**
+ * Backtracking récursif réécrit avec une pile explicite : on creuse vers une voisine
+ * non visitée tant que possible, puis on revient en arrière. Donne de longs couloirs.
+ */
+public class BacktrackerGenerator extends PerfectMazeGenerator {
+
+    public BacktrackerGenerator(long seed) {
+        super(seed);
+    }
+
+    @Override
+    void carve(Rooms rooms, Random random) {
+        int count = rooms.count();
+        boolean[] visited = new boolean[count];
+        int[] stack = new int[count];
+        int size = 0;
+        int[] candidates = new int[4];
+
+        int first = random.nextInt(count);
+        visited[first] = true;
+        rooms.open(first);
+        stack[size++] = first;
+
+        while (size > 0) {
+            int room = stack[size - 1];
+            int candidateCount = 0;
+            for (int dir = 0; dir < 4; dir++) {
+                int other = rooms.neighbor(room, dir);
+                if (other >= 0 && !visited[other]) {
+                    candidates[candidateCount++] = other;
+                }
+            }
+
+            if (candidateCount == 0) {
+                size--;
+                continue;
+            }
+
+            int next = candidates[random.nextInt(candidateCount)];
+            rooms.connect(room, next);
+            visited[next] = true;
+            stack[size++] = next;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Backtracking";
+    }
+}
@@ -0,0 +1,32 @@
+package generators;
+
+import java.util.List;
+
+/**
+ * Générateurs disponibles par nom court, pour la ligne de commande et les benchmarks.
+ * La densité de murs n'est utilisée que par {@code random}.
+ */
+public final class Generators {
+    public static final List<String> NAMES =
+            List.of("random", "kruskal", "prim", "wilson", "backtracker");
+
+    private Generators() {
+    }
+
+    public static MazeGenerator create(String name, long seed, double wallDensity) {
+        switch (name) {
+            case "random":
+                return new RandomWallsGenerator(wallDensity, seed);
+            case "kruskal":
+                return new KruskalGenerator(seed);
+            case "prim":
+                return new PrimGenerator(seed);
+            case "wilson":
+                return new WilsonGenerator(seed);
+            case "backtracker":
+                return new BacktrackerGenerator(seed);
+            default:
+                throw new IllegalArgumentException("Générateur inconnu : " + name);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package generators;
+
+import java.util.Random;
+
+/**
+ * Kruskal randomisé : les passages possibles sont mélangés puis ouverts un à un
+ * s'ils relient deux composantes distinctes (union-find sur tableaux d'entiers).
+ */
+public class KruskalGenerator extends PerfectMazeGenerator {
+
+    public KruskalGenerator(long seed) {
+        super(seed);
+    }
+
+    @Override
+    void carve(Rooms rooms, Random random) {
+        int count = rooms.count();
+        // Passage codé room * 2 + 0 vers le bas, room * 2 + 1 vers la droite
+        int[] edges = new int[count * 2];
+        int edgeCount = 0;
+        for (int room = 0; room < count; room++) {
+            rooms.open(room);
+            if (rooms.neighbor(room, 1) >= 0) {
+                edges[edgeCount++] = room * 2;
+            }
+            if (rooms.neighbor(room, 3) >= 0) {
+                edges[edgeCount++] = room * 2 + 1;
+            }
+        }
+
+        int[] parent = new int[count];
+        int[] size = new int[count];
+        for (int room = 0; room < count; room++) {
+            parent[room] = room;
+            size[room] = 1;
+        }
+
+        int components = count;
+        for (int i = 0; i < edgeCount && components > 1; i++) {
+            int j = i + random.nextInt(edgeCount - i);
+            int edge = edges[j];
+            edges[j] = edges[i];
+
+            int room = edge >>> 1;
+            int other = (edge & 1) == 0 ? room + rooms.cols : room + 1;
+            int rootA = find(parent, room);
+            int rootB = find(parent, other);
+            if (rootA != rootB) {
+                // Union par taille : la plus petite composante passe sous la plus grande
+                if (size[rootA] < size[rootB]) {
+                    int swap = rootA;
+                    rootA = rootB;
+                    rootB = swap;
+                }
+                parent[rootB] = rootA;
+                size[rootA] += size[rootB];
+                rooms.connect(room, other);
+                components--;
+            }
+        }
+    }
+
+    private static int find(int[] parent, int room) {
+        while (parent[room] != room) {
+            // Compression par division de chemin
+            parent[room] = parent[parent[room]];
+            room = parent[room];
+        }
+        return room;
+    }
+
+    @Override
+    public String getName() {
+        return "Kruskal";
+    }
+}
@@ -0,0 +1,12 @@
+package generators;
+
+import model.Maze;
+
+/**
+ * Génère un labyrinthe de taille donnée. Les implémentations sont initialisées avec une
+ * graine : deux appels avec les mêmes dimensions produisent le même labyrinthe.
+ */
+public interface MazeGenerator {
+    Maze generate(int rows, int cols);
+    String getName();
+}
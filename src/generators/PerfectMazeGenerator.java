@@ -0,0 +1,91 @@
+package generators;
+
+import model.Cell;
+import model.Maze;
+
+import java.util.Random;
+
+/**
+ * Base des générateurs de labyrinthes parfaits (un seul chemin entre deux cases).
+ * Les « salles » sont les cases de coordonnées impaires ; les cases entre deux salles
+ * voisines sont des murs que l'algorithme ouvre pour former un arbre couvrant.
+ * Le départ est en haut à gauche, l'arrivée dans la dernière salle en bas à droite ; il faut
+ * donc au moins deux salles de côté, soit une taille d'au moins 5x5.
+ */
+abstract class PerfectMazeGenerator implements MazeGenerator {
+    private final long seed;
+
+    PerfectMazeGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public final Maze generate(int rows, int cols) {
+        // Deux salles au moins dans chaque sens : à 3x3, le départ et l'arrivée seraient confondus
+        if (rows < 5 || cols < 5) {
+            throw new IllegalArgumentException("Le labyrinthe parfait doit être au moins de taille 5x5");
+        }
+
+        Maze maze = new Maze(rows, cols);
+        Rooms rooms = new Rooms(maze);
+        carve(rooms, new Random(seed));
+
+        maze.setCell(1, 1, Cell.CellType.START);
+        maze.setCell(2 * rooms.rows - 1, 2 * rooms.cols - 1, Cell.CellType.END);
+        return maze;
+    }
+
+    /**
+     * Relie toutes les salles en un arbre couvrant en ouvrant des passages.
+     */
+    abstract void carve(Rooms rooms, Random random);
+
+    /**
+     * Grille des salles, numérotées {@code row * cols + col}, posée sur le labyrinthe.
+     */
+    static final class Rooms {
+        final Maze maze;
+        final int rows;
+        final int cols;
+
+        Rooms(Maze maze) {
+            this.maze = maze;
+            this.rows = (maze.getRows() - 1) / 2;
+            this.cols = (maze.getCols() - 1) / 2;
+        }
+
+        int count() {
+            return rows * cols;
+        }
+
+        void open(int room) {
+            maze.setCell(2 * (room / cols) + 1, 2 * (room % cols) + 1, Cell.CellType.PATH);
+        }
+
+        // Ouvre les deux salles et la case de mur qui les sépare
+        void connect(int room, int other) {
+            open(room);
+            open(other);
+            maze.setCell((room / cols) + (other / cols) + 1, (room % cols) + (other % cols) + 1,
+                    Cell.CellType.PATH);
+        }
+
+        /**
+         * Salle voisine dans la direction {@code dir} (haut, bas, gauche, droite), ou -1.
+         */
+        int neighbor(int room, int dir) {
+            int row = room / cols;
+            int col = room % cols;
+            switch (dir) {
+                case 0:
+                    return row > 0 ? room - cols : -1;
+                case 1:
+                    return row < rows - 1 ? room + cols : -1;
+                case 2:
+                    return col > 0 ? room - 1 : -1;
+                default:
+                    return col < cols - 1 ? room + 1 : -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package generators;
+
+import java.util.Random;
+
+/**
+ * Prim randomisé : le labyrinthe grandit à partir d'une salle ; à chaque étape, une salle
+ * de la frontière tirée au hasard est reliée à l'une de ses voisines déjà intégrées.
+ */
+public class PrimGenerator extends PerfectMazeGenerator {
+
+    public PrimGenerator(long seed) {
+        super(seed);
+    }
+
+    @Override
+    void carve(Rooms rooms, Random random) {
+        int count = rooms.count();
+        boolean[] inMaze = new boolean[count];
+        boolean[] inFrontier = new boolean[count];
+        int[] frontier = new int[count];
+        int frontierSize = 0;
+        int[] candidates = new int[4];
+
+        int first = random.nextInt(count);
+        inMaze[first] = true;
+        rooms.open(first);
+        frontierSize = addFrontier(rooms, first, inMaze, inFrontier, frontier, frontierSize);
+
+        while (frontierSize > 0) {
+            int pick = random.nextInt(frontierSize);
+            int room = frontier[pick];
+            frontier[pick] = frontier[--frontierSize];
+
+            int candidateCount = 0;
+            for (int dir = 0; dir < 4; dir++) {
+                int other = rooms.neighbor(room, dir);
+                if (other >= 0 && inMaze[other]) {
+                    candidates[candidateCount++] = other;
+                }
+            }
+            rooms.connect(room, candidates[random.nextInt(candidateCount)]);
+            inMaze[room] = true;
+            frontierSize = addFrontier(rooms, room, inMaze, inFrontier, frontier, frontierSize);
+        }
+    }
+
+    private static int addFrontier(Rooms rooms, int room, boolean[] inMaze, boolean[] inFrontier,
+                                   int[] frontier, int frontierSize) {
+        for (int dir = 0; dir < 4; dir++) {
+            int other = rooms.neighbor(room, dir);
+            if (other >= 0 && !inMaze[other] && !inFrontier[other]) {
+                inFrontier[other] = true;
+                frontier[frontierSize++] = other;
+            }
+        }
+        return frontierSize;
+    }
+
+    @Override
+    public String getName() {
+        return "Prim";
+    }
+}
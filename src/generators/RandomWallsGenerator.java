@@ -0,0 +1,28 @@
+package generators;
+
+import model.Maze;
+import utils.MazeLoader;
+
+/**
+ * Murs répartis au hasard selon une densité, comme {@link MazeLoader#generateRandom}.
+ * Le labyrinthe obtenu n'est pas parfait : il contient des zones ouvertes et des cycles.
+ */
+public class RandomWallsGenerator implements MazeGenerator {
+    private final double wallDensity;
+    private final long seed;
+
+    public RandomWallsGenerator(double wallDensity, long seed) {
+        this.wallDensity = wallDensity;
+        this.seed = seed;
+    }
+
+    @Override
+    public Maze generate(int rows, int cols) {
+        return MazeLoader.generateRandom(rows, cols, wallDensity, seed);
+    }
+
+    @Override
+    public String getName() {
+        return "Murs aléatoires (densité " + wallDensity + ")";
+    }
+}
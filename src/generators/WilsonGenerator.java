@@ -0,0 +1,59 @@
+package generators;
+
+import java.util.Random;
+
+/**
+ * Algorithme de Wilson : marches aléatoires à boucles effacées jusqu'au labyrinthe déjà
+ * construit. Produit un arbre couvrant uniforme, sans biais de forme, au prix de marches
+ * plus longues au début de la génération.
+ */
+public class WilsonGenerator extends PerfectMazeGenerator {
+
+    public WilsonGenerator(long seed) {
+        super(seed);
+    }
+
+    @Override
+    void carve(Rooms rooms, Random random) {
+        int count = rooms.count();
+        boolean[] inMaze = new boolean[count];
+        // Dernière direction prise depuis chaque salle pendant la marche : les boucles s'effacent
+        // d'elles-mêmes puisqu'un nouveau passage écrase l'ancien
+        byte[] exit = new byte[count];
+
+        int root = random.nextInt(count);
+        inMaze[root] = true;
+        rooms.open(root);
+
+        for (int origin = 0; origin < count; origin++) {
+            if (inMaze[origin]) {
+                continue;
+            }
+
+            int room = origin;
+            while (!inMaze[room]) {
+                int dir;
+                int next;
+                do {
+                    dir = random.nextInt(4);
+                    next = rooms.neighbor(room, dir);
+                } while (next < 0);
+                exit[room] = (byte) dir;
+                room = next;
+            }
+
+            room = origin;
+            while (!inMaze[room]) {
+                int next = rooms.neighbor(room, exit[room]);
+                rooms.connect(room, next);
+                inMaze[room] = true;
+                room = next;
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Wilson";
+    }
+}
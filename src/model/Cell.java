@@ -1,18 +1,34 @@
 package model;
 
+import java.util.Arrays;
+
+/**
+ * Vue légère sur une case d'un {@link Maze}. Les cellules ne sont plus stockées :
+ * elles sont créées à la demande et lisent/écrivent directement dans la grille compacte.
+ */
 public class Cell {
-    private int row;
-    private int col;
-    private CellType type;
-    private boolean visited;
+    private final Maze maze;
+    private final int row;
+    private final int col;
 
     public enum CellType {
+        // WALL doit rester le premier : le code 0 d'une grille neuve représente un mur
         WALL('#'),
         PATH('='),
         START('S'),
         END('E'),
         SOLUTION('+');
 
+        private static final CellType[] BY_CODE = values();
+        private static final CellType[] BY_SYMBOL = new CellType[128];
+
+        static {
+            Arrays.fill(BY_SYMBOL, WALL);
+            for (CellType type : BY_CODE) {
+                BY_SYMBOL[type.symbol] = type;
+            }
+        }
+
         private final char symbol;
 
         CellType(char symbol) {
@@ -23,21 +39,24 @@ public class Cell {
             return symbol;
         }
 
+        public byte getCode() {
+            return (byte) ordinal();
+        }
+
+        public static CellType fromCode(byte code) {
+            return BY_CODE[code];
+        }
+
         public static CellType fromSymbol(char symbol) {
-            for (CellType type : CellType.values()) {
-                if (type.getSymbol() == symbol) {
-                    return type;
-                }
-            }
-            return WALL;
+            // Table indexée par caractère ASCII : appelée pour chaque octet lors du chargement
+            return symbol < BY_SYMBOL.length ? BY_SYMBOL[symbol] : WALL;
         }
     }
 
-    public Cell(int row, int col, CellType type) {
+    Cell(Maze maze, int row, int col) {
+        this.maze = maze;
         this.row = row;
         this.col = col;
-        this.type = type;
-        this.visited = false;
     }
 
     public int getRow() {
@@ -48,30 +67,37 @@ public class Cell {
         return col;
     }
 
+    public int getIndex() {
+        return maze.index(row, col);
+    }
+
     public CellType getType() {
-        return type;
+        return maze.getType(row, col);
     }
 
     public void setType(CellType type) {
-        this.type = type;
+        maze.storeType(maze.index(row, col), type);
     }
 
-    public boolean isVisited() {
-        return visited;
+    public boolean isWalkable() {
+        return maze.isWalkable(maze.index(row, col));
     }
 
-    public void setVisited(boolean visited) {
-        this.visited = visited;
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Cell)) return false;
+        Cell other = (Cell) o;
+        return maze == other.maze && row == other.row && col == other.col;
     }
 
-    public boolean isWalkable() {
-        // Une cellule est traversable si c'est un chemin, le départ, l'arrivée ou une solution
-        return type == CellType.PATH || type == CellType.START || 
-               type == CellType.END || type == CellType.SOLUTION;
+    @Override
+    public int hashCode() {
+        return 31 * (31 * System.identityHashCode(maze) + row) + col;
     }
 
     @Override
     public String toString() {
-        return String.valueOf(type.getSymbol());
+        return String.valueOf(getType().getSymbol());
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,14 @@
+package model;
+
+/**
+ * Prévenu quand une cellule d'un {@link Maze} devient un mur ou cesse d'en être un.
+ * Les changements qui ne modifient pas la traversabilité (chemin marqué comme solution,
+ * déplacement du départ sur une case libre...) ne sont pas signalés.
+ */
+@FunctionalInterface
+public interface CellChangeListener {
+    /**
+     * Appelé après la modification, sur le thread qui a modifié le labyrinthe.
+     */
+    void walkabilityChanged(Maze maze, int index);
+}
@@ -0,0 +1,171 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Grille découpée en tuiles de 64x64 cellules, pour les grands labyrinthes très creux ou très
+ * pleins. Une tuile uniforme ne coûte qu'un octet ; une tuile mixte est stockée en plans de bits
+ * (un {@code long} par ligne de tuile et par bit du code), un plan entièrement nul n'étant pas alloué.
+ * Une tuile murs/passages occupe ainsi 512 octets au lieu de 4 096 dans {@link PackedGrid}.
+ */
+public class ChunkedGrid implements GridStorage {
+    private static final int TILE_SHIFT = 6;
+    private static final int TILE_SIZE = 1 << TILE_SHIFT;
+    private static final int TILE_MASK = TILE_SIZE - 1;
+    // Les codes de Cell.CellType tiennent sur 3 bits
+    private static final int PLANES = 3;
+
+    private final int rows;
+    private final int cols;
+    private final int tileCols;
+    // Valeur des tuiles uniformes, ignorée si la tuile a des plans
+    private final byte[] uniform;
+    // planes[tuile] est null pour une tuile uniforme ; planes[tuile][bit] est null si le plan est nul
+    private final long[][][] planes;
+
+    public ChunkedGrid(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.tileCols = (cols + TILE_MASK) >>> TILE_SHIFT;
+        int tileRows = (rows + TILE_MASK) >>> TILE_SHIFT;
+        // Toutes les tuiles commencent uniformes à 0, c'est-à-dire murées
+        this.uniform = new byte[tileRows * tileCols];
+        this.planes = new long[uniform.length][][];
+    }
+
+    private ChunkedGrid(ChunkedGrid other) {
+        this.rows = other.rows;
+        this.cols = other.cols;
+        this.tileCols = other.tileCols;
+        this.uniform = other.uniform.clone();
+        this.planes = new long[other.planes.length][][];
+        for (int tile = 0; tile < planes.length; tile++) {
+            long[][] source = other.planes[tile];
+            if (source != null) {
+                planes[tile] = new long[PLANES][];
+                for (int bit = 0; bit < PLANES; bit++) {
+                    if (source[bit] != null) {
+                        planes[tile][bit] = source[bit].clone();
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public byte get(int index) {
+        int row = index / cols;
+        int col = index - row * cols;
+        int tile = (row >>> TILE_SHIFT) * tileCols + (col >>> TILE_SHIFT);
+        long[][] tilePlanes = planes[tile];
+        if (tilePlanes == null) {
+            return uniform[tile];
+        }
+        int word = row & TILE_MASK;
+        int shift = col & TILE_MASK;
+        int code = 0;
+        for (int bit = 0; bit < PLANES; bit++) {
+            long[] plane = tilePlanes[bit];
+            if (plane != null) {
+                code |= (int) ((plane[word] >>> shift) & 1L) << bit;
+            }
+        }
+        return (byte) code;
+    }
+
+    @Override
+    public void set(int index, byte code) {
+        int row = index / cols;
+        int col = index - row * cols;
+        int tile = (row >>> TILE_SHIFT) * tileCols + (col >>> TILE_SHIFT);
+        long[][] tilePlanes = planes[tile];
+        if (tilePlanes == null) {
+            if (uniform[tile] == code) {
+                return;
+            }
+            tilePlanes = expand(tile);
+        }
+        int word = row & TILE_MASK;
+        long mask = 1L << (col & TILE_MASK);
+        for (int bit = 0; bit < PLANES; bit++) {
+            long[] plane = tilePlanes[bit];
+            if ((code >>> bit & 1) != 0) {
+                if (plane == null) {
+                    plane = tilePlanes[bit] = new long[TILE_SIZE];
+                }
+                plane[word] |= mask;
+            } else if (plane != null) {
+                plane[word] &= ~mask;
+            }
+        }
+    }
+
+    // Transforme une tuile uniforme en plans de bits remplis avec sa valeur
+    private long[][] expand(int tile) {
+        long[][] tilePlanes = new long[PLANES][];
+        for (int bit = 0; bit < PLANES; bit++) {
+            if ((uniform[tile] >>> bit & 1) != 0) {
+                tilePlanes[bit] = new long[TILE_SIZE];
+                Arrays.fill(tilePlanes[bit], -1L);
+            }
+        }
+        planes[tile] = tilePlanes;
+        return tilePlanes;
+    }
+
+    /**
+     * Repasse en représentation uniforme les tuiles dont toutes les cellules ont le même code
+     * et libère les plans devenus nuls. Les bits situés hors de la grille (tuiles du bord) sont ignorés.
+     */
+    @Override
+    public void compact() {
+        for (int tile = 0; tile < planes.length; tile++) {
+            long[][] tilePlanes = planes[tile];
+            if (tilePlanes == null) {
+                continue;
+            }
+            int tileRow = tile / tileCols;
+            int tileCol = tile - tileRow * tileCols;
+            int height = Math.min(TILE_SIZE, rows - (tileRow << TILE_SHIFT));
+            int width = Math.min(TILE_SIZE, cols - (tileCol << TILE_SHIFT));
+            long colMask = width == TILE_SIZE ? -1L : (1L << width) - 1;
+
+            boolean isUniform = true;
+            int code = 0;
+            for (int bit = 0; bit < PLANES; bit++) {
+                long[] plane = tilePlanes[bit];
+                if (plane == null) {
+                    continue;
+                }
+                boolean allZero = true;
+                boolean allOne = true;
+                for (int word = 0; word < height; word++) {
+                    long value = plane[word] & colMask;
+                    allZero &= value == 0;
+                    allOne &= value == colMask;
+                }
+                if (allZero) {
+                    tilePlanes[bit] = null;
+                } else if (allOne) {
+                    code |= 1 << bit;
+                } else {
+                    isUniform = false;
+                }
+            }
+            if (isUniform) {
+                uniform[tile] = (byte) code;
+                planes[tile] = null;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return rows * cols;
+    }
+
+    @Override
+    public GridStorage copy() {
+        return new ChunkedGrid(this);
+    }
+}
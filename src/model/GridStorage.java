@@ -0,0 +1,21 @@
+package model;
+
+/**
+ * Stockage brut des cellules d'un labyrinthe, indexé par {@code row * cols + col}.
+ * Chaque cellule est codée par l'ordinal de son {@link Cell.CellType}.
+ */
+public interface GridStorage {
+    byte get(int index);
+
+    void set(int index, byte code);
+
+    int size();
+
+    GridStorage copy();
+
+    /**
+     * Réduit si possible la mémoire occupée, sans changer le contenu. Rien à faire par défaut.
+     */
+    default void compact() {
+    }
+}
@@ -4,66 +4,197 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class Maze {
-    private Cell[][] grid;
-    private Cell start;
-    private Cell end;
-    private int rows;
-    private int cols;
+    // Table des directions : haut, bas, gauche, droite
+    public static final int DIRECTIONS = 4;
+    private static final int[] DIR_ROW = {-1, 1, 0, 0};
+    private static final int[] DIR_COL = {0, 0, -1, 1};
+
+    private final GridStorage grid;
+    private int start = -1;
+    private int end = -1;
+    private final int rows;
+    private final int cols;
+    // Abonnés aux changements de murs ; null tant qu'il n'y en a aucun, pour ne rien coûter au chargement
+    private List<CellChangeListener> listeners;
+    // Test d'accessibilité réutilisé par isReachable, créé au premier appel
+    private Reachability reachability;
 
     public Maze(int rows, int cols) {
+        this(rows, cols, false);
+    }
+
+    private Maze(int rows, int cols, boolean chunked) {
+        if ((long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Le labyrinthe est trop grand : " + rows + "x" + cols);
+        }
         this.rows = rows;
         this.cols = cols;
-        this.grid = new Cell[rows][cols];
-        initializeGrid();
+        // Une grille neuve ne contient que des murs (code 0)
+        this.grid = chunked ? new ChunkedGrid(rows, cols) : new PackedGrid(rows * cols);
+    }
+
+    /**
+     * Labyrinthe stocké par tuiles ({@link ChunkedGrid}) : la mémoire dépend du contenu et non de
+     * la surface, au prix d'un accès un peu plus lent. Adapté aux très grandes grilles presque
+     * entièrement murées ou ouvertes. Appeler {@link #compact()} après la construction.
+     */
+    public static Maze chunked(int rows, int cols) {
+        return new Maze(rows, cols, true);
+    }
+
+    // Copie d'un labyrinthe existant dans un stockage par tuiles compacté
+    public static Maze chunked(Maze other) {
+        Maze maze = new Maze(other.rows, other.cols, true);
+        for (int index = 0; index < other.getCellCount(); index++) {
+            maze.grid.set(index, other.grid.get(index));
+        }
+        maze.start = other.start;
+        maze.end = other.end;
+        maze.compact();
+        return maze;
     }
 
     // Constructeur de copie
     public Maze(Maze other) {
         this.rows = other.rows;
         this.cols = other.cols;
-        this.grid = new Cell[rows][cols];
-        
-        // Copier chaque cellule
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                Cell originalCell = other.grid[i][j];
-                this.grid[i][j] = new Cell(i, j, originalCell.getType());
-                if (originalCell == other.start) {
-                    this.start = this.grid[i][j];
-                }
-                if (originalCell == other.end) {
-                    this.end = this.grid[i][j];
-                }
+        this.grid = other.grid.copy();
+        this.start = other.start;
+        this.end = other.end;
+    }
+
+    public int index(int row, int col) {
+        return row * cols + col;
+    }
+
+    public int rowOf(int index) {
+        return index / cols;
+    }
+
+    public int colOf(int index) {
+        return index % cols;
+    }
+
+    public int getCellCount() {
+        return rows * cols;
+    }
+
+    /**
+     * Libère la mémoire inutile du stockage (tuiles redevenues uniformes), sans effet sur le contenu.
+     */
+    public void compact() {
+        grid.compact();
+    }
+
+    public void setCell(int row, int col, Cell.CellType type) {
+        setCell(index(row, col), type);
+    }
+
+    public void setCell(int index, Cell.CellType type) {
+        storeType(index, type);
+        if (type == Cell.CellType.START) {
+            start = index;
+        } else if (type == Cell.CellType.END) {
+            end = index;
+        }
+    }
+
+    /**
+     * Écrit {@code length} codes de cellules ({@link Cell.CellType#getCode()}) consécutifs à partir
+     * de {@code index}, pour le chargement en masse : même effet que des appels successifs à
+     * {@link #setCell(int, Cell.CellType)}, sans passer par un {@code CellType} par cellule.
+     */
+    public void setCodes(int index, byte[] codes, int offset, int length) {
+        if (listeners != null) {
+            for (int i = 0; i < length; i++) {
+                setCell(index + i, Cell.CellType.fromCode(codes[offset + i]));
+            }
+            return;
+        }
+        byte startCode = Cell.CellType.START.getCode();
+        byte endCode = Cell.CellType.END.getCode();
+        for (int i = 0; i < length; i++) {
+            byte code = codes[offset + i];
+            grid.set(index + i, code);
+            if (code == startCode) {
+                start = index + i;
+            } else if (code == endCode) {
+                end = index + i;
             }
         }
     }
 
-    private void initializeGrid() {
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                grid[i][j] = new Cell(i, j, Cell.CellType.WALL);
+    void storeType(int index, Cell.CellType type) {
+        if (listeners == null) {
+            grid.set(index, type.getCode());
+            return;
+        }
+        boolean wasWalkable = isWalkable(index);
+        grid.set(index, type.getCode());
+        if (wasWalkable != isWalkable(index)) {
+            for (CellChangeListener listener : listeners) {
+                listener.walkabilityChanged(this, index);
             }
         }
     }
 
-    public void setCell(int row, int col, Cell.CellType type) {
-        grid[row][col].setType(type);
-        if (type == Cell.CellType.START) {
-            start = grid[row][col];
-        } else if (type == Cell.CellType.END) {
-            end = grid[row][col];
+    /**
+     * Abonne {@code listener} aux cellules qui deviennent ou cessent d'être des murs. Les copies
+     * du labyrinthe ne reprennent pas les abonnés.
+     */
+    public void addCellChangeListener(CellChangeListener listener) {
+        if (listeners == null) {
+            listeners = new ArrayList<>(1);
+        }
+        listeners.add(listener);
+    }
+
+    public void removeCellChangeListener(CellChangeListener listener) {
+        if (listeners != null) {
+            listeners.remove(listener);
+            if (listeners.isEmpty()) {
+                listeners = null;
+            }
         }
     }
 
     public Cell getCell(int row, int col) {
-        return grid[row][col];
+        if (!isValidPosition(row, col)) {
+            throw new IndexOutOfBoundsException("Position invalide : (" + row + ", " + col + ")");
+        }
+        return new Cell(this, row, col);
+    }
+
+    public Cell getCell(int index) {
+        return getCell(rowOf(index), colOf(index));
+    }
+
+    public Cell.CellType getType(int row, int col) {
+        return Cell.CellType.fromCode(grid.get(index(row, col)));
+    }
+
+    public Cell.CellType getType(int index) {
+        return Cell.CellType.fromCode(grid.get(index));
+    }
+
+    public boolean isWalkable(int index) {
+        // Tout sauf un mur est traversable : chemin, départ, arrivée ou solution
+        return grid.get(index) != Cell.CellType.WALL.getCode();
     }
 
     public Cell getStart() {
-        return start;
+        return start < 0 ? null : getCell(start);
     }
 
     public Cell getEnd() {
+        return end < 0 ? null : getCell(end);
+    }
+
+    public int getStartIndex() {
+        return start;
+    }
+
+    public int getEndIndex() {
         return end;
     }
 
@@ -76,42 +207,81 @@ public class Maze {
     }
 
     public List<Cell> getNeighbors(Cell cell) {
-        List<Cell> neighbors = new ArrayList<>();
-        int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}}; // haut, bas, gauche, droite
-
-        for (int[] dir : directions) {
-            int newRow = cell.getRow() + dir[0];
-            int newCol = cell.getCol() + dir[1];
-
-            if (isValidPosition(newRow, newCol) && grid[newRow][newCol].isWalkable()) {
-                neighbors.add(grid[newRow][newCol]);
+        List<Cell> neighbors = new ArrayList<>(DIRECTIONS);
+        int index = cell.getIndex();
+        for (int dir = 0; dir < DIRECTIONS; dir++) {
+            int next = neighbor(index, dir);
+            if (next >= 0) {
+                neighbors.add(getCell(next));
             }
         }
-
         return neighbors;
     }
 
-    private boolean isValidPosition(int row, int col) {
-        return row >= 0 && row < rows && col >= 0 && col < cols;
+    /**
+     * Voisin traversable de la cellule {@code index} dans la direction {@code dir}
+     * (0 à {@link #DIRECTIONS} - 1), ou -1 s'il sort de la grille ou s'il s'agit d'un mur.
+     * N'alloue rien : c'est la primitive utilisée par les solveurs dans leur boucle principale.
+     */
+    public int neighbor(int index, int dir) {
+        int row = index / cols + DIR_ROW[dir];
+        int col = index % cols + DIR_COL[dir];
+        if (!isValidPosition(row, col)) {
+            return -1;
+        }
+        int next = row * cols + col;
+        return isWalkable(next) ? next : -1;
     }
 
-    public void resetVisited() {
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                grid[i][j].setVisited(false);
+    /**
+     * Vrai si l'arrivée peut être atteinte depuis le départ. Le bitmap des cellules visitées et
+     * la pile sont alloués une fois par labyrinthe puis remis à zéro à chaque appel.
+     */
+    public boolean isReachable(Cell start, Cell end) {
+        return isReachable(start.getIndex(), end.getIndex());
+    }
+
+    public boolean isReachable(int start, int end) {
+        // Pas besoin de l'oublier quand la grille change : il la lit directement, efface son
+        // bitmap à chaque appel, et le nombre de cellules ne change jamais. Le verrou protège
+        // ce tampon commun si plusieurs threads interrogent le même labyrinthe.
+        synchronized (this) {
+            if (reachability == null) {
+                reachability = new Reachability(this);
             }
+            return reachability.isReachable(start, end);
         }
     }
 
+    private boolean isValidPosition(int row, int col) {
+        return row >= 0 && row < rows && col >= 0 && col < cols;
+    }
+
     @Override
     public String toString() {
-        StringBuilder sb = new StringBuilder();
+        StringBuilder sb = new StringBuilder(rows * (cols + 1));
         for (int i = 0; i < rows; i++) {
+            int base = i * cols;
             for (int j = 0; j < cols; j++) {
-                sb.append(grid[i][j].toString());
+                sb.append(Cell.CellType.fromCode(grid.get(base + j)).getSymbol());
             }
             sb.append("\n");
         }
         return sb.toString();
     }
-} 
\ No newline at end of file
+
+    /**
+     * Représentation texte avec le chemin donné marqué en {@code +}, sans modifier la grille.
+     */
+    public String toString(List<Cell> path) {
+        StringBuilder sb = new StringBuilder(toString());
+        char mark = Cell.CellType.SOLUTION.getSymbol();
+        for (Cell cell : path) {
+            int index = index(cell.getRow(), cell.getCol());
+            if (index != start && index != end) {
+                sb.setCharAt(cell.getRow() * (cols + 1) + cell.getCol(), mark);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,39 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Grille compacte : un octet par cellule dans un tableau plat.
+ * Le code 0 correspond à {@link Cell.CellType#WALL}, une grille neuve est donc entièrement murée.
+ */
+public class PackedGrid implements GridStorage {
+    private final byte[] cells;
+
+    public PackedGrid(int size) {
+        this.cells = new byte[size];
+    }
+
+    private PackedGrid(byte[] cells) {
+        this.cells = cells;
+    }
+
+    @Override
+    public byte get(int index) {
+        return cells[index];
+    }
+
+    @Override
+    public void set(int index, byte code) {
+        cells[index] = code;
+    }
+
+    @Override
+    public int size() {
+        return cells.length;
+    }
+
+    @Override
+    public GridStorage copy() {
+        return new PackedGrid(Arrays.copyOf(cells, cells.length));
+    }
+}
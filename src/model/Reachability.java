@@ -0,0 +1,58 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Test d'accessibilité itératif entre deux cellules d'un labyrinthe : parcours en profondeur
+ * avec une pile d'entiers explicite et un bitmap des cellules visitées, tous deux réutilisés
+ * d'un appel à l'autre. Aucune récursion, donc aucun risque de débordement de pile même avec
+ * de très longs couloirs, et aucune allocation une fois la pile à sa taille maximale.
+ * Une instance n'est pas partagée entre threads.
+ */
+public class Reachability {
+    private final Maze maze;
+    private final long[] visited;
+    private int[] stack;
+
+    public Reachability(Maze maze) {
+        this.maze = maze;
+        this.visited = new long[(maze.getCellCount() + 63) >>> 6];
+        this.stack = new int[64];
+    }
+
+    /**
+     * Vrai si un chemin de cellules traversables relie {@code from} à {@code to} (indices).
+     */
+    public boolean isReachable(int from, int to) {
+        if (!maze.isWalkable(from) || !maze.isWalkable(to)) {
+            return false;
+        }
+        if (from == to) {
+            return true;
+        }
+
+        Arrays.fill(visited, 0L);
+        int size = 0;
+        stack[size++] = from;
+        visited[from >>> 6] |= 1L << from;
+
+        while (size > 0) {
+            int current = stack[--size];
+            for (int dir = 0; dir < Maze.DIRECTIONS; dir++) {
+                int next = maze.neighbor(current, dir);
+                if (next < 0 || (visited[next >>> 6] & (1L << next)) != 0) {
+                    continue;
+                }
+                if (next == to) {
+                    return true;
+                }
+                visited[next >>> 6] |= 1L << next;
+                if (size == stack.length) {
+                    stack = Arrays.copyOf(stack, size << 1);
+                }
+                stack[size++] = next;
+            }
+        }
+        return false;
+    }
+}
@@ -5,13 +5,22 @@ import model.Maze;
 import algorithms.MazeSolver;
 import algorithms.DFSSolver;
 import algorithms.BFSSolver;
+import algorithms.ExplorationBuffer;
+import algorithms.SolveMetrics;
+import algorithms.SolveResult;
+import algorithms.SolverService;
 import utils.MazeLoader;
 
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
 import java.io.File;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import javax.swing.event.ChangeEvent;
 import javax.swing.event.ChangeListener;
 
@@ -26,22 +35,19 @@ public class MazeGUI extends JFrame {
     private JButton pauseButton;
     private JButton stepButton;
     private JButton helpButton;
-    private volatile boolean isPaused = false;
-    private volatile boolean stepMode = false;
-    private volatile int animationSpeed = 50;
-    private Runtime runtime = Runtime.getRuntime();
-    private long initialMemory;
+    private boolean stepMode = false;
     private static final int CELL_SIZE = 30;
-    private static final Color WALL_COLOR = new Color(44, 62, 80);
-    private static final Color PATH_COLOR = new Color(236, 240, 241);
-    private static final Color START_COLOR = new Color(46, 204, 113);
-    private static final Color END_COLOR = new Color(231, 76, 60);
-    private static final Color SOLUTION_COLOR = new Color(241, 196, 15);
-    private static final Color SOLUTION_BORDER = new Color(243, 156, 18);
-    private static final Color VISITED_COLOR = new Color(52, 152, 219, 100);
     private static final Color BACKGROUND_COLOR = new Color(236, 240, 241);
     private static final Color PANEL_BACKGROUND = new Color(189, 195, 199);
-    private volatile boolean nextStep = false;
+    private static final long SOLVE_TIMEOUT_SECONDS = 30;
+    // Période de vidage des files d'exploration pendant la résolution (environ 60 images/s)
+    private static final int EXPLORATION_FRAME_MILLIS = 16;
+    private final SolverService solverService = new SolverService(2);
+    // Révèle les deux chemins au même rythme, une mise à jour des panneaux par image
+    private final PathAnimator animator = new PathAnimator(steps -> {
+        mazePanelDFS.setVisibleSteps(steps);
+        mazePanelBFS.setVisibleSteps(steps);
+    }, 50);
 
     public MazeGUI() {
         setTitle("Comparaison des Algorithmes de Résolution de Labyrinthe");
@@ -130,7 +136,7 @@ public class MazeGUI extends JFrame {
         speedPanel.setBorder(BorderFactory.createTitledBorder("Vitesse d'animation"));
         speedSlider = new JSlider(JSlider.HORIZONTAL, 1, 200, 50);
         speedSlider.setInverted(true);
-        speedSlider.addChangeListener(e -> animationSpeed = speedSlider.getValue());
+        speedSlider.addChangeListener(e -> animator.setStepDelay(speedSlider.getValue()));
         speedPanel.add(speedSlider);
 
         // Boutons de contrôle
@@ -160,32 +166,33 @@ public class MazeGUI extends JFrame {
     }
 
     private void togglePause() {
-        isPaused = !isPaused;
-        SwingUtilities.invokeLater(() -> {
-            pauseButton.setText(isPaused ? "Reprendre" : "Pause");
-            pauseButton.setEnabled(true);
-        });
+        if (animator.isPaused()) {
+            animator.resume();
+        } else {
+            animator.pause();
+        }
+        pauseButton.setText(animator.isPaused() ? "Reprendre" : "Pause");
     }
 
+    // Le mode pas à pas met l'animation en pause ; chaque clic avance ensuite d'un pas
     private void toggleStepMode() {
         stepMode = !stepMode;
-        nextStep = false;
-        SwingUtilities.invokeLater(() -> {
-            stepButton.setText(stepMode ? "Étape suivante" : "Mode Pas à Pas");
-            if (stepMode) {
-                pauseButton.setEnabled(false);
-                speedSlider.setEnabled(false);
-                stepButton.setEnabled(true);
-            } else {
-                pauseButton.setEnabled(true);
-                speedSlider.setEnabled(true);
-            }
-        });
+        stepButton.setText(stepMode ? "Étape suivante" : "Mode Pas à Pas");
+        if (stepMode) {
+            animator.pause();
+            pauseButton.setEnabled(false);
+            speedSlider.setEnabled(false);
+        } else {
+            animator.resume();
+            pauseButton.setText("Pause");
+            pauseButton.setEnabled(true);
+            speedSlider.setEnabled(true);
+        }
     }
 
     private void doNextStep() {
         if (stepMode) {
-            nextStep = true;
+            animator.step();
         }
     }
 
@@ -197,7 +204,10 @@ public class MazeGUI extends JFrame {
             "2. Contrôles de résolution\n" +
             "   - Vitesse d'animation : Ajustez la vitesse de résolution\n" +
             "   - Pause/Reprendre : Interrompre/reprendre la résolution\n" +
-            "   - Mode Pas à Pas : Avancer étape par étape\n\n" +
+            "   - Mode Pas à Pas : Avancer étape par étape\n" +
+            "   - Les cellules explorées s'affichent en bleu pendant la résolution\n" +
+            "   - Molette : zoomer sur le labyrinthe, glisser : se déplacer,\n" +
+            "     double-clic : revenir à la vue d'ensemble\n\n" +
             "3. Comparaison des algorithmes\n" +
             "   - DFS (Depth-First Search) : Recherche en profondeur\n" +
             "   - BFS (Breadth-First Search) : Recherche en largeur\n\n" +
@@ -279,16 +289,28 @@ public class MazeGUI extends JFrame {
         return panel;
     }
 
-    private void updateStats(JTextArea statsArea, MazeSolver solver, List<Cell> solution, long startTime) {
-        long endTime = System.currentTimeMillis();
-        long memoryUsed = runtime.totalMemory() - runtime.freeMemory() - initialMemory;
-        
+    private void updateStats(JTextArea statsArea, MazeSolver solver, List<Cell> solution, ExplorationBuffer exploration) {
+        SolveMetrics metrics = solver.getLastMetrics();
+        if (metrics == null) {
+            statsArea.setText("Résolution interrompue (délai dépassé)\n");
+            return;
+        }
+
         StringBuilder stats = new StringBuilder();
         stats.append("Statistiques de résolution:\n");
-        stats.append(String.format("Nombre d'étapes: %d\n", solver.getStepCount()));
-        stats.append(String.format("Temps d'exécution: %d ms\n", solver.getExecutionTime()));
+        stats.append(String.format("Nombre d'étapes: %d\n", metrics.getCellsExpanded()));
+        stats.append(String.format("Temps d'exécution: %.3f ms\n", metrics.getElapsedMillis()));
         stats.append(String.format("Longueur du chemin: %d\n", solution.size()));
-        stats.append(String.format("Mémoire utilisée: %.2f MB\n", memoryUsed / (1024.0 * 1024.0)));
+        stats.append(String.format("Frontière maximale: %d cellules\n", metrics.getPeakFrontier()));
+        if (metrics.getAllocatedBytes() >= 0) {
+            stats.append(String.format("Mémoire allouée: %.2f MB\n", metrics.getAllocatedBytes() / (1024.0 * 1024.0)));
+        } else {
+            stats.append("Mémoire allouée: non mesurable sur cette JVM\n");
+        }
+        if (exploration.getDropped() > 0) {
+            // Le solveur allait plus vite que l'affichage : seul un échantillon a été dessiné
+            stats.append(String.format("Exploration affichée: échantillon (%d cellules omises)\n", exploration.getDropped()));
+        }
         statsArea.setText(stats.toString());
     }
 
@@ -303,9 +325,10 @@ public class MazeGUI extends JFrame {
         comparison.append(String.format("- Étapes explorées: %d vs %d (Différence: %d)\n",
             dfsSolver.getStepCount(), bfsSolver.getStepCount(),
             Math.abs(dfsSolver.getStepCount() - bfsSolver.getStepCount())));
-        comparison.append(String.format("- Temps d'exécution: %d ms vs %d ms (Différence: %d ms)\n",
-            dfsSolver.getExecutionTime(), bfsSolver.getExecutionTime(),
-            Math.abs(dfsSolver.getExecutionTime() - bfsSolver.getExecutionTime())));
+        double dfsMillis = elapsedMillis(dfsSolver);
+        double bfsMillis = elapsedMillis(bfsSolver);
+        comparison.append(String.format("- Temps d'exécution: %.3f ms vs %.3f ms (Différence: %.3f ms)\n",
+            dfsMillis, bfsMillis, Math.abs(dfsMillis - bfsMillis)));
         
         // Comparaison des chemins
         comparison.append("\nAnalyse des chemins trouvés:\n");
@@ -338,13 +361,18 @@ public class MazeGUI extends JFrame {
         comparisonText.setText(comparison.toString());
     }
 
+    private static double elapsedMillis(MazeSolver solver) {
+        SolveMetrics metrics = solver.getLastMetrics();
+        return metrics == null ? 0 : metrics.getElapsedMillis();
+    }
+
     private void loadMazeFromFile() {
         JFileChooser fileChooser = new JFileChooser();
         if (fileChooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
             try {
                 maze = MazeLoader.loadFromFile(fileChooser.getSelectedFile().getPath());
-                mazePanelDFS.setMaze(new Maze(maze));
-                mazePanelBFS.setMaze(new Maze(maze));
+                mazePanelDFS.setMaze(maze);
+                mazePanelBFS.setMaze(maze);
                 statsAreaDFS.setText("Labyrinthe chargé avec succès !\n");
                 statsAreaBFS.setText("Labyrinthe chargé avec succès !\n");
             } catch (Exception e) {
@@ -364,8 +392,8 @@ public class MazeGUI extends JFrame {
             double density = Double.parseDouble(densityStr);
 
             maze = MazeLoader.generateRandom(rows, cols, density);
-            mazePanelDFS.setMaze(new Maze(maze));
-            mazePanelBFS.setMaze(new Maze(maze));
+            mazePanelDFS.setMaze(maze);
+            mazePanelBFS.setMaze(maze);
             statsAreaDFS.setText("Labyrinthe généré avec succès !\n");
             statsAreaBFS.setText("Labyrinthe généré avec succès !\n");
         } catch (Exception e) {
@@ -381,229 +409,88 @@ public class MazeGUI extends JFrame {
 
         statsAreaDFS.setText("");
         statsAreaBFS.setText("");
-        isPaused = false;
+        mazePanelDFS.setSolutionPath(null);
+        mazePanelBFS.setSolutionPath(null);
+        mazePanelDFS.clearExploration();
+        mazePanelBFS.clearExploration();
         stepMode = false;
-        SwingUtilities.invokeLater(() -> {
-            pauseButton.setEnabled(true);
-            stepButton.setEnabled(true);
-            speedSlider.setEnabled(true);
-            pauseButton.setText("Pause");
-            stepButton.setText("Mode Pas à Pas");
-        });
-
-        // Initialiser la mémoire
-        initialMemory = runtime.totalMemory() - runtime.freeMemory();
+        animator.resume();
+        pauseButton.setEnabled(true);
+        stepButton.setEnabled(true);
+        speedSlider.setEnabled(true);
+        pauseButton.setText("Pause");
+        stepButton.setText("Mode Pas à Pas");
 
         // Désactiver le bouton pendant la résolution
         JButton solveButton = (JButton) ((JPanel) ((JPanel) getContentPane().getComponent(0)).getComponent(0)).getComponent(2);
         solveButton.setEnabled(false);
 
+        // Les solveurs publient leur exploration ; l'affichage la récupère par lots à chaque image
+        DFSSolver dfsSolver = new DFSSolver();
+        BFSSolver bfsSolver = new BFSSolver();
+        ExplorationBuffer dfsExploration = new ExplorationBuffer();
+        ExplorationBuffer bfsExploration = new ExplorationBuffer();
+        dfsSolver.setExplorationBuffer(dfsExploration);
+        bfsSolver.setExplorationBuffer(bfsExploration);
+        int[] drained = new int[ExplorationBuffer.DEFAULT_CAPACITY];
+        Timer explorationTimer = new Timer(EXPLORATION_FRAME_MILLIS, e -> {
+            drainExploration(dfsExploration, mazePanelDFS, drained);
+            drainExploration(bfsExploration, mazePanelBFS, drained);
+        });
+        explorationTimer.start();
+
         // Créer un thread séparé pour la résolution et l'animation
+        Maze sharedMaze = maze;
         new Thread(() -> {
-            // Résoudre avec DFS
-            DFSSolver dfsSolver = new DFSSolver();
-            Maze dfsMaze = mazePanelDFS.getMaze();
-            dfsMaze.resetVisited();
-            List<Cell> dfsSolution = dfsSolver.solve(dfsMaze);
-
-            // Résoudre avec BFS
-            BFSSolver bfsSolver = new BFSSolver();
-            Maze bfsMaze = mazePanelBFS.getMaze();
-            bfsMaze.resetVisited();
-            List<Cell> bfsSolution = bfsSolver.solve(bfsMaze);
-
-            // Afficher les résultats
-            SwingUtilities.invokeLater(() -> {
-                updateStats(statsAreaDFS, dfsSolver, dfsSolution, System.currentTimeMillis());
-                updateStats(statsAreaBFS, bfsSolver, bfsSolution, System.currentTimeMillis());
-            });
-
-            // Animer les solutions simultanément
-            int maxSteps = Math.max(dfsSolution.size(), bfsSolution.size());
-            for (int i = 0; i < maxSteps; i++) {
-                if (stepMode) {
-                    SwingUtilities.invokeLater(() -> stepButton.setEnabled(true));
-                    while (!nextStep && stepMode) {
-                        try {
-                            Thread.sleep(100);
-                        } catch (InterruptedException e) {
-                            Thread.currentThread().interrupt();
-                            return;
-                        }
-                    }
-                    nextStep = false;
-                }
-                
-                while (isPaused) {
-                    try {
-                        Thread.sleep(100);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        return;
-                    }
-                }
-
-                final int step = i;
-                SwingUtilities.invokeLater(() -> {
-                    if (step < dfsSolution.size()) {
-                        Cell dfsCell = dfsSolution.get(step);
-                        if (dfsCell != dfsMaze.getStart() && dfsCell != dfsMaze.getEnd()) {
-                            dfsCell.setType(Cell.CellType.SOLUTION);
-                        }
-                        mazePanelDFS.repaint();
-                    }
-                    if (step < bfsSolution.size()) {
-                        Cell bfsCell = bfsSolution.get(step);
-                        if (bfsCell != bfsMaze.getStart() && bfsCell != bfsMaze.getEnd()) {
-                            bfsCell.setType(Cell.CellType.SOLUTION);
-                        }
-                        mazePanelBFS.repaint();
-                    }
-                });
-
-                if (!stepMode) {
-                    try {
-                        Thread.sleep(animationSpeed);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        return;
-                    }
-                }
+            // Les deux solveurs tournent en parallèle sur le même labyrinthe, sans copie
+            List<Future<SolveResult>> futures = solverService.solveAll(sharedMaze,
+                    List.of(dfsSolver, bfsSolver), SOLVE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            List<Cell> dfsSolution;
+            List<Cell> bfsSolution;
+            try {
+                dfsSolution = awaitPath(futures.get(0));
+                bfsSolution = awaitPath(futures.get(1));
+            } catch (InterruptedException e) {
+                futures.forEach(future -> future.cancel(true));
+                SwingUtilities.invokeLater(explorationTimer::stop);
+                Thread.currentThread().interrupt();
+                return;
             }
 
-            // Réactiver le bouton après la résolution
+            // Afficher les résultats ; les chemins sont donnés une fois puis révélés par l'animation
             SwingUtilities.invokeLater(() -> {
-                solveButton.setEnabled(true);
-                pauseButton.setEnabled(false);
-                stepButton.setEnabled(false);
-                speedSlider.setEnabled(true);
+                // Dernières cellules explorées : les files ne dépassent pas la taille du tableau de lecture
+                explorationTimer.stop();
+                drainExploration(dfsExploration, mazePanelDFS, drained);
+                drainExploration(bfsExploration, mazePanelBFS, drained);
+                updateStats(statsAreaDFS, dfsSolver, dfsSolution, dfsExploration);
+                updateStats(statsAreaBFS, bfsSolver, bfsSolution, bfsExploration);
+                mazePanelDFS.setSolutionPath(dfsSolution, 0);
+                mazePanelBFS.setSolutionPath(bfsSolution, 0);
+
+                // Animer les solutions simultanément, puis réactiver le bouton
+                animator.start(Math.max(dfsSolution.size(), bfsSolution.size()), () -> {
+                    solveButton.setEnabled(true);
+                    pauseButton.setEnabled(false);
+                    stepButton.setEnabled(false);
+                    speedSlider.setEnabled(true);
+                    updateComparison(dfsSolver, bfsSolver, dfsSolution, bfsSolution);
+                });
             });
-
-            // Mettre à jour la comparaison
-            updateComparison(dfsSolver, bfsSolver, dfsSolution, bfsSolution);
         }).start();
     }
 
-    private class MazePanel extends JPanel {
-        private Maze maze;
-        private List<Cell> visitedCells;
-        private List<Cell> solutionPath;
-
-        public void setMaze(Maze maze) {
-            this.maze = maze;
-            this.visitedCells = null;
-            this.solutionPath = null;
-            repaint();
-        }
-
-        public Maze getMaze() {
-            return maze;
-        }
-
-        public void setVisitedCells(List<Cell> visited) {
-            this.visitedCells = visited;
-            repaint();
-        }
-
-        public void setSolutionPath(List<Cell> solution) {
-            this.solutionPath = solution;
-            repaint();
-        }
-
-        @Override
-        protected void paintComponent(Graphics g) {
-            super.paintComponent(g);
-            if (maze == null) return;
-
-            Graphics2D g2d = (Graphics2D) g;
-            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-            g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
-
-            int width = getWidth();
-            int height = getHeight();
-            int cellWidth = width / maze.getCols();
-            int cellHeight = height / maze.getRows();
-
-            // Dessiner les cellules visitées
-            if (visitedCells != null) {
-                g2d.setColor(VISITED_COLOR);
-                for (Cell cell : visitedCells) {
-                    int x = cell.getCol() * cellWidth;
-                    int y = cell.getRow() * cellHeight;
-                    g2d.fillRect(x, y, cellWidth, cellHeight);
-                }
-            }
-
-            // Dessiner le labyrinthe
-            for (int i = 0; i < maze.getRows(); i++) {
-                for (int j = 0; j < maze.getCols(); j++) {
-                    Cell cell = maze.getCell(i, j);
-                    int x = j * cellWidth;
-                    int y = i * cellHeight;
-
-                    switch (cell.getType()) {
-                        case WALL:
-                            g2d.setColor(WALL_COLOR);
-                            g2d.fillRect(x, y, cellWidth, cellHeight);
-                            break;
-                        case PATH:
-                            g2d.setColor(PATH_COLOR);
-                            g2d.fillRect(x, y, cellWidth, cellHeight);
-                            break;
-                        case START:
-                            drawSpecialCell(g2d, x, y, cellWidth, cellHeight, START_COLOR, "E");
-                            break;
-                        case END:
-                            drawSpecialCell(g2d, x, y, cellWidth, cellHeight, END_COLOR, "S");
-                            break;
-                        case SOLUTION:
-                            drawSolutionCell(g2d, x, y, cellWidth, cellHeight);
-                            break;
-                    }
-                }
-            }
-
-            // Dessiner la grille
-            g2d.setColor(new Color(189, 195, 199));
-            for (int i = 0; i <= maze.getRows(); i++) {
-                g2d.drawLine(0, i * cellHeight, width, i * cellHeight);
-            }
-            for (int j = 0; j <= maze.getCols(); j++) {
-                g2d.drawLine(j * cellWidth, 0, j * cellWidth, height);
-            }
-        }
-
-        private void drawSpecialCell(Graphics2D g2d, int x, int y, int width, int height, 
-                                   Color color, String text) {
-            g2d.setColor(color);
-            g2d.fillRect(x, y, width, height);
-            
-            // Cercle blanc
-            g2d.setColor(Color.WHITE);
-            int padding = width / 6;
-            g2d.fillOval(x + padding, y + padding, width - 2*padding, height - 2*padding);
-            
-            // Texte
-            g2d.setColor(color);
-            g2d.setFont(new Font("Arial", Font.BOLD, Math.min(width, height) / 2));
-            FontMetrics fm = g2d.getFontMetrics();
-            int textX = x + (width - fm.stringWidth(text)) / 2;
-            int textY = y + (height - fm.getHeight()) / 2 + fm.getAscent();
-            g2d.drawString(text, textX, textY);
-        }
+    // Transmet au panneau les cellules explorées publiées depuis la dernière image
+    private static void drainExploration(ExplorationBuffer exploration, MazePanel panel, int[] drained) {
+        panel.addExplored(drained, exploration.drain(drained));
+    }
 
-        private void drawSolutionCell(Graphics2D g2d, int x, int y, int width, int height) {
-            g2d.setColor(SOLUTION_COLOR);
-            g2d.fillRect(x, y, width, height);
-            
-            // Effet de brillance
-            g2d.setColor(new Color(255, 255, 255, 50));
-            g2d.fillRect(x, y, width/2, height/2);
-            
-            // Bordure
-            g2d.setColor(SOLUTION_BORDER);
-            g2d.setStroke(new BasicStroke(2));
-            g2d.drawRect(x + 1, y + 1, width - 2, height - 2);
+    // Chemin trouvé, ou liste vide si la résolution a échoué ou dépassé le délai
+    private List<Cell> awaitPath(Future<SolveResult> future) throws InterruptedException {
+        try {
+            return future.get().getPath();
+        } catch (CancellationException | ExecutionException e) {
+            return Collections.emptyList();
         }
     }
-} 
\ No newline at end of file
+}
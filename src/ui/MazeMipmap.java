@@ -0,0 +1,115 @@
+package ui;
+
+import model.Maze;
+
+import java.util.Arrays;
+
+/**
+ * Niveaux de détail d'un labyrinthe pour l'affichage dézoomé. Le niveau {@code k} découpe la
+ * grille en blocs de {@code 2^k x 2^k} cellules et mémorise pour chacun la proportion de murs
+ * sur un octet (0 = que des passages, 255 = que des murs). Le niveau 0 est lu directement
+ * dans le labyrinthe ; les suivants sont calculés une fois, chacun à partir du précédent,
+ * pour environ un tiers d'octet par cellule au total.
+ */
+class MazeMipmap {
+    static final int OPAQUE = 255;
+
+    private final Maze maze;
+    // levels[k] pour k >= 1, indexé par ligne * levelCols(k) + colonne ; levels[0] inutilisé
+    private final byte[][] levels;
+    private final int[] levelRows;
+    private final int[] levelCols;
+
+    MazeMipmap(Maze maze) {
+        this.maze = maze;
+        int count = 1;
+        while ((1 << (count - 1)) < Math.max(maze.getRows(), maze.getCols())) {
+            count++;
+        }
+        levels = new byte[count][];
+        levelRows = new int[count];
+        levelCols = new int[count];
+        levelRows[0] = maze.getRows();
+        levelCols[0] = maze.getCols();
+
+        if (count > 1) {
+            levels[1] = firstLevel();
+        }
+        for (int k = 2; k < count; k++) {
+            int rows = (levelRows[k - 1] + 1) >>> 1;
+            int cols = (levelCols[k - 1] + 1) >>> 1;
+            levelRows[k] = rows;
+            levelCols[k] = cols;
+            byte[] level = new byte[rows * cols];
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    // Moyenne des quatre blocs fils qui existent (bords de grille impairs)
+                    int sum = 0;
+                    int children = 0;
+                    for (int dr = 0; dr < 2; dr++) {
+                        int childRow = 2 * row + dr;
+                        if (childRow >= levelRows[k - 1]) {
+                            continue;
+                        }
+                        for (int dc = 0; dc < 2; dc++) {
+                            int childCol = 2 * col + dc;
+                            if (childCol < levelCols[k - 1]) {
+                                sum += density(k - 1, childRow, childCol);
+                                children++;
+                            }
+                        }
+                    }
+                    level[row * cols + col] = (byte) ((sum + children / 2) / children);
+                }
+            }
+            levels[k] = level;
+        }
+    }
+
+    // Niveau 1 lu ligne par ligne dans la grille : c'est le seul niveau qui parcourt toutes les cellules
+    private byte[] firstLevel() {
+        int rows = (maze.getRows() + 1) >>> 1;
+        int cols = (maze.getCols() + 1) >>> 1;
+        levelRows[1] = rows;
+        levelCols[1] = cols;
+        byte[] level = new byte[rows * cols];
+        int[] walls = new int[cols];
+        for (int row = 0; row < rows; row++) {
+            Arrays.fill(walls, 0);
+            int height = Math.min(2, maze.getRows() - 2 * row);
+            for (int dr = 0; dr < height; dr++) {
+                int base = maze.index(2 * row + dr, 0);
+                for (int col = 0; col < maze.getCols(); col++) {
+                    walls[col >>> 1] += maze.isWalkable(base + col) ? 0 : 1;
+                }
+            }
+            for (int col = 0; col < cols; col++) {
+                int cells = height * Math.min(2, maze.getCols() - 2 * col);
+                level[row * cols + col] = (byte) ((walls[col] * OPAQUE + cells / 2) / cells);
+            }
+        }
+        return level;
+    }
+
+    int levelCount() {
+        return levels.length;
+    }
+
+    int rows(int level) {
+        return levelRows[level];
+    }
+
+    int cols(int level) {
+        return levelCols[level];
+    }
+
+    /**
+     * Proportion de murs du bloc ({@code row}, {@code col}) du niveau donné, entre 0 et {@link #OPAQUE}.
+     */
+    int density(int level, int row, int col) {
+        if (level == 0) {
+            return maze.isWalkable(maze.index(row, col)) ? 0 : OPAQUE;
+        }
+        return levels[level][row * levelCols[level] + col] & 0xFF;
+    }
+}
@@ -0,0 +1,643 @@
+package ui;
+
+import model.Cell;
+import model.Maze;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Affichage d'un labyrinthe et d'un chemin solution en surimpression, avec zoom (molette,
+ * centré sur le curseur), déplacement (glisser) et retour à la vue d'ensemble (double-clic).
+ * La vue courante est dessinée une seule fois dans une image tampon, refaite seulement si le
+ * labyrinthe, la taille du panneau, le zoom ou la position changent. À chaque repaint on ne
+ * recopie que la zone de découpe et on ne dessine que les cellules du chemin qui s'y trouvent ;
+ * faire avancer le chemin ne redessine que les cellules ajoutées.
+ * <p>
+ * Les cellules développées par un solveur peuvent être ajoutées au fil de la résolution
+ * ({@link #addExplored}) : elles sont peintes directement dans l'image tampon et seul le
+ * rectangle qui les contient est redessiné.
+ * <p>
+ * Niveau de détail : à partir de {@value #MIN_DETAIL_SIZE} pixels par cellule, les cellules
+ * sont dessinées une à une avec la grille ; en dessous, chaque pixel prend la couleur de la
+ * densité de murs du bloc de cellules qu'il couvre, lue dans un {@link MazeMipmap}.
+ */
+class MazePanel extends JPanel {
+    private static final Color WALL_COLOR = new Color(44, 62, 80);
+    private static final Color PATH_COLOR = new Color(236, 240, 241);
+    private static final Color START_COLOR = new Color(46, 204, 113);
+    private static final Color END_COLOR = new Color(231, 76, 60);
+    private static final Color SOLUTION_COLOR = new Color(241, 196, 15);
+    private static final Color SOLUTION_BORDER = new Color(243, 156, 18);
+    private static final Color SOLUTION_SHINE = new Color(255, 255, 255, 50);
+    private static final Color GRID_COLOR = new Color(189, 195, 199);
+    private static final Color EXPLORED_COLOR = new Color(174, 214, 241);
+    private static final Stroke SOLUTION_STROKE = new BasicStroke(2);
+    private static final Font LABEL_FONT = new Font("Arial", Font.BOLD, 12);
+    // En dessous de ces tailles (en pixels), la grille, les bordures et les lettres sont omises
+    private static final int MIN_DETAIL_SIZE = 4;
+    private static final int MIN_LABEL_SIZE = 12;
+    // Taille minimale des repères de départ et d'arrivée quand les cellules sont minuscules
+    private static final int MIN_MARKER_SIZE = 6;
+    private static final double MAX_SCALE = 64;
+    private static final double ZOOM_STEP = 1.25;
+    // Couleur de chaque densité de murs, du passage (0) au mur plein (255)
+    private static final int[] DENSITY_PALETTE = densityPalette();
+
+    private Maze maze;
+    private MazeMipmap mipmap;
+    private BufferedImage mazeImage;
+    // Chemin affiché, en indices de cellules ; seules les visibleSteps premières sont dessinées
+    private int[] solution = new int[0];
+    private int visibleSteps;
+    // Cellules développées par le solveur, une par bit ; null tant qu'aucune n'a été reçue
+    private long[] explored;
+
+    // Vue : pixels par cellule et coordonnées (en cellules) du coin haut gauche du panneau
+    private double scale = 1;
+    private double viewX;
+    private double viewY;
+    // Tant que l'utilisateur n'a ni zoomé ni déplacé la vue, le labyrinthe entier est affiché
+    private boolean fitToPanel = true;
+
+    MazePanel() {
+        MouseAdapter navigation = new MouseAdapter() {
+            private Point dragOrigin;
+
+            @Override
+            public void mousePressed(MouseEvent e) {
+                dragOrigin = e.getPoint();
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                if (dragOrigin != null) {
+                    pan(e.getX() - dragOrigin.x, e.getY() - dragOrigin.y);
+                    dragOrigin = e.getPoint();
+                }
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                dragOrigin = null;
+            }
+
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) {
+                    fitToPanel();
+                }
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                zoom(Math.pow(ZOOM_STEP, -e.getPreciseWheelRotation()), e.getX(), e.getY());
+            }
+        };
+        addMouseListener(navigation);
+        addMouseMotionListener(navigation);
+        addMouseWheelListener(navigation);
+    }
+
+    public void setMaze(Maze maze) {
+        this.maze = maze;
+        this.mipmap = maze == null ? null : new MazeMipmap(maze);
+        this.solution = new int[0];
+        this.visibleSteps = 0;
+        this.explored = null;
+        this.fitToPanel = true;
+        mazeImage = null;
+        repaint();
+    }
+
+    public Maze getMaze() {
+        return maze;
+    }
+
+    /**
+     * À appeler si les cellules du labyrinthe affiché ont été modifiées.
+     */
+    public void mazeChanged() {
+        mipmap = maze == null ? null : new MazeMipmap(maze);
+        mazeImage = null;
+        repaint();
+    }
+
+    /**
+     * Revient à la vue d'ensemble, le labyrinthe entier tenant dans le panneau.
+     */
+    public void fitToPanel() {
+        fitToPanel = true;
+        mazeImage = null;
+        repaint();
+    }
+
+    /**
+     * Multiplie le zoom par {@code factor} en gardant immobile la cellule sous le point (x, y).
+     */
+    public void zoom(double factor, int x, int y) {
+        if (maze == null) {
+            return;
+        }
+        updateView();
+        double newScale = Math.max(fitScale() / 2, Math.min(MAX_SCALE, scale * factor));
+        viewX += x / scale - x / newScale;
+        viewY += y / scale - y / newScale;
+        scale = newScale;
+        fitToPanel = false;
+        clampView();
+        mazeImage = null;
+        repaint();
+    }
+
+    /**
+     * Déplace la vue de (dx, dy) pixels, comme si l'on faisait glisser le labyrinthe.
+     */
+    public void pan(int dx, int dy) {
+        if (maze == null) {
+            return;
+        }
+        updateView();
+        viewX -= dx / scale;
+        viewY -= dy / scale;
+        fitToPanel = false;
+        clampView();
+        mazeImage = null;
+        repaint();
+    }
+
+    public double getScale() {
+        return scale;
+    }
+
+    /**
+     * Affiche le chemin entier, ou l'efface s'il est null.
+     */
+    public void setSolutionPath(List<Cell> path) {
+        setSolutionPath(path, path == null ? 0 : path.size());
+    }
+
+    /**
+     * Remplace le chemin affiché et n'en montre que les {@code visibleSteps} premières cellules.
+     */
+    public void setSolutionPath(List<Cell> path, int visibleSteps) {
+        int[] cells = new int[path == null ? 0 : path.size()];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = path.get(i).getIndex();
+        }
+        this.solution = cells;
+        this.visibleSteps = Math.min(visibleSteps, cells.length);
+        repaint();
+    }
+
+    /**
+     * Fait avancer ou reculer le chemin affiché en ne redessinant que les cellules concernées.
+     */
+    public void setVisibleSteps(int steps) {
+        int target = Math.max(0, Math.min(steps, solution.length));
+        int from = Math.min(visibleSteps, target);
+        int to = Math.max(visibleSteps, target);
+        visibleSteps = target;
+        if (maze == null || from == to) {
+            return;
+        }
+        Rectangle dirty = null;
+        for (int i = from; i < to; i++) {
+            Rectangle bounds = cellBounds(solution[i]);
+            if (dirty == null) {
+                dirty = bounds;
+            } else {
+                dirty.add(bounds);
+            }
+        }
+        repaint(dirty);
+    }
+
+    public int getVisibleSteps() {
+        return visibleSteps;
+    }
+
+    /**
+     * Efface les cellules explorées affichées.
+     */
+    public void clearExploration() {
+        if (explored != null) {
+            explored = null;
+            mazeImage = null;
+            repaint();
+        }
+    }
+
+    /**
+     * Ajoute à l'affichage les {@code count} premières cellules explorées de {@code cells}.
+     * Elles sont peintes dans l'image tampon et seul le rectangle qui les contient est redessiné.
+     */
+    public void addExplored(int[] cells, int count) {
+        if (maze == null || count <= 0) {
+            return;
+        }
+        if (explored == null) {
+            explored = new long[(maze.getCellCount() + 63) >>> 6];
+        }
+        BufferedImage image = mazeImage;
+        if (image == null || image.getWidth() != getWidth() || image.getHeight() != getHeight()) {
+            // La vue sera refaite au prochain repaint, cellules explorées comprises
+            for (int i = 0; i < count; i++) {
+                explored[cells[i] >>> 6] |= 1L << cells[i];
+            }
+            repaint();
+            return;
+        }
+
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int color = EXPLORED_COLOR.getRGB();
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            int cell = cells[i];
+            long mask = 1L << cell;
+            if ((explored[cell >>> 6] & mask) != 0) {
+                continue;
+            }
+            explored[cell >>> 6] |= mask;
+            int row = maze.rowOf(cell);
+            int col = maze.colOf(cell);
+            if (paintExplored(pixels, width, height, row, col, color)) {
+                minX = Math.min(minX, screenX(col));
+                minY = Math.min(minY, screenY(row));
+                maxX = Math.max(maxX, screenX(col + 1));
+                maxY = Math.max(maxY, screenY(row + 1));
+            }
+        }
+        if (minX > maxX) {
+            return;
+        }
+
+        Rectangle dirty = new Rectangle(minX, minY, Math.max(1, maxX - minX), Math.max(1, maxY - minY));
+        // Les repères de départ et d'arrivée débordent de leur cellule en vue éloignée : on les repeint
+        if (touchesMarker(dirty)) {
+            Graphics2D g2d = image.createGraphics();
+            try {
+                drawMarkers(g2d);
+            } finally {
+                g2d.dispose();
+            }
+        }
+        repaint(dirty);
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        if (maze == null || getWidth() <= 0 || getHeight() <= 0) {
+            return;
+        }
+        if (mazeImage == null || mazeImage.getWidth() != getWidth() || mazeImage.getHeight() != getHeight()) {
+            updateView();
+            mazeImage = renderView(getWidth(), getHeight());
+        }
+
+        Graphics2D g2d = (Graphics2D) g;
+        Rectangle clip = g2d.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        // Seule la zone à rafraîchir est recopiée depuis l'image tampon
+        g2d.drawImage(mazeImage, clip.x, clip.y, clip.x + clip.width, clip.y + clip.height,
+                clip.x, clip.y, clip.x + clip.width, clip.y + clip.height, null);
+
+        // Chemin solution en surimpression, limité aux cellules qui touchent la zone de découpe
+        int start = maze.getStartIndex();
+        int end = maze.getEndIndex();
+        boolean detailed = scale >= MIN_DETAIL_SIZE;
+        int clipRight = clip.x + clip.width;
+        int clipBottom = clip.y + clip.height;
+        int lastX = Integer.MIN_VALUE;
+        int lastY = Integer.MIN_VALUE;
+        for (int i = 0; i < visibleSteps; i++) {
+            int cell = solution[i];
+            if (cell == start || cell == end) {
+                continue;
+            }
+            // Test sur les coordonnées brutes : aucune allocation pour les cellules hors zone
+            int row = maze.rowOf(cell);
+            int col = maze.colOf(cell);
+            int x = screenX(col);
+            int y = screenY(row);
+            if (screenX(col + 1) <= clip.x || x >= clipRight || screenY(row + 1) <= clip.y || y >= clipBottom) {
+                continue;
+            }
+            // En vue éloignée, des cellules consécutives tombent souvent sur le même pixel
+            if (x == lastX && y == lastY) {
+                continue;
+            }
+            lastX = x;
+            lastY = y;
+            drawSolutionCell(g2d, cellBounds(cell), detailed);
+        }
+    }
+
+    // Recalcule la vue d'ensemble si elle est active, sinon garde la vue dans les limites du labyrinthe
+    private void updateView() {
+        if (fitToPanel) {
+            scale = fitScale();
+            viewX = (maze.getCols() - getWidth() / scale) / 2;
+            viewY = (maze.getRows() - getHeight() / scale) / 2;
+        } else {
+            clampView();
+        }
+    }
+
+    private double fitScale() {
+        return Math.max(Double.MIN_NORMAL, Math.min((double) getWidth() / maze.getCols(),
+                (double) getHeight() / maze.getRows()));
+    }
+
+    // Centre le labyrinthe sur un axe où il tient entièrement, sinon empêche d'en sortir
+    private void clampView() {
+        viewX = clampAxis(viewX, getWidth() / scale, maze.getCols());
+        viewY = clampAxis(viewY, getHeight() / scale, maze.getRows());
+    }
+
+    private static double clampAxis(double origin, double visible, int size) {
+        if (visible >= size) {
+            return (size - visible) / 2;
+        }
+        return Math.max(0, Math.min(size - visible, origin));
+    }
+
+    // Dessin de la vue courante dans une image de la taille du panneau
+    private BufferedImage renderView(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        if (scale >= MIN_DETAIL_SIZE) {
+            renderCells(image);
+        } else {
+            renderDensity(image);
+        }
+        if (explored != null) {
+            renderExploration(image);
+        }
+
+        Graphics2D g2d = image.createGraphics();
+        try {
+            drawMarkers(g2d);
+        } finally {
+            g2d.dispose();
+        }
+        return image;
+    }
+
+    private void drawMarkers(Graphics2D g2d) {
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        // Police dérivée une seule fois pour toutes les cases spéciales
+        Font labelFont = LABEL_FONT.deriveFont((float) scale / 2);
+        if (maze.getStartIndex() >= 0) {
+            drawSpecialCell(g2d, markerBounds(maze.getStartIndex()), START_COLOR, "E", labelFont);
+        }
+        if (maze.getEndIndex() >= 0) {
+            drawSpecialCell(g2d, markerBounds(maze.getEndIndex()), END_COLOR, "S", labelFont);
+        }
+    }
+
+    private boolean touchesMarker(Rectangle area) {
+        return (maze.getStartIndex() >= 0 && area.intersects(markerBounds(maze.getStartIndex())))
+                || (maze.getEndIndex() >= 0 && area.intersects(markerBounds(maze.getEndIndex())));
+    }
+
+    // Cellules explorées des lignes et colonnes visibles, lues mot par mot dans le masque
+    private void renderExploration(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int firstRow = Math.max(0, (int) Math.floor(viewY));
+        int lastRow = Math.min(maze.getRows(), (int) Math.ceil(viewY + height / scale));
+        int firstCol = Math.max(0, (int) Math.floor(viewX));
+        int lastCol = Math.min(maze.getCols(), (int) Math.ceil(viewX + width / scale));
+        if (firstCol >= lastCol) {
+            return;
+        }
+
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        int color = EXPLORED_COLOR.getRGB();
+        for (int row = firstRow; row < lastRow; row++) {
+            int from = maze.index(row, firstCol);
+            int to = maze.index(row, lastCol - 1);
+            for (int word = from >>> 6; word <= to >>> 6; word++) {
+                long bits = explored[word];
+                if (word == from >>> 6) {
+                    bits &= -1L << from;
+                }
+                if (word == to >>> 6) {
+                    bits &= -1L >>> (63 - (to & 63));
+                }
+                while (bits != 0) {
+                    int cell = (word << 6) | Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+                    paintExplored(pixels, width, height, row, maze.colOf(cell), color);
+                }
+            }
+        }
+    }
+
+    // Remplit la cellule dans l'image (sans sa grille en vue rapprochée) ; faux si elle est hors de la vue
+    private boolean paintExplored(int[] pixels, int width, int height, int row, int col, int color) {
+        int x0 = screenX(col);
+        int y0 = screenY(row);
+        int x1 = Math.max(x0 + 1, screenX(col + 1));
+        int y1 = Math.max(y0 + 1, screenY(row + 1));
+        if (scale >= MIN_DETAIL_SIZE) {
+            x0++;
+            y0++;
+        }
+        x0 = Math.max(0, x0);
+        y0 = Math.max(0, y0);
+        x1 = Math.min(width, x1);
+        y1 = Math.min(height, y1);
+        if (x0 >= x1 || y0 >= y1) {
+            return false;
+        }
+        for (int y = y0; y < y1; y++) {
+            Arrays.fill(pixels, y * width + x0, y * width + x1, color);
+        }
+        return true;
+    }
+
+    // Vue rapprochée : seules les cellules visibles sont dessinées, murs par séries horizontales
+    private void renderCells(BufferedImage image) {
+        Graphics2D g2d = image.createGraphics();
+        try {
+            int width = image.getWidth();
+            int height = image.getHeight();
+            int firstRow = Math.max(0, (int) Math.floor(viewY));
+            int lastRow = Math.min(maze.getRows(), (int) Math.ceil(viewY + height / scale));
+            int firstCol = Math.max(0, (int) Math.floor(viewX));
+            int lastCol = Math.min(maze.getCols(), (int) Math.ceil(viewX + width / scale));
+
+            g2d.setColor(getBackground());
+            g2d.fillRect(0, 0, width, height);
+            g2d.setColor(PATH_COLOR);
+            g2d.fillRect(screenX(firstCol), screenY(firstRow),
+                    screenX(lastCol) - screenX(firstCol), screenY(lastRow) - screenY(firstRow));
+
+            g2d.setColor(WALL_COLOR);
+            for (int i = firstRow; i < lastRow; i++) {
+                int y0 = screenY(i);
+                int y1 = screenY(i + 1);
+                int base = maze.index(i, 0);
+                int j = firstCol;
+                while (j < lastCol) {
+                    if (maze.isWalkable(base + j)) {
+                        j++;
+                        continue;
+                    }
+                    int runStart = j;
+                    while (j < lastCol && !maze.isWalkable(base + j)) {
+                        j++;
+                    }
+                    int x0 = screenX(runStart);
+                    g2d.fillRect(x0, y0, screenX(j) - x0, y1 - y0);
+                }
+            }
+
+            // Ancienne solution éventuellement enregistrée dans la grille
+            for (int i = firstRow; i < lastRow; i++) {
+                for (int j = firstCol; j < lastCol; j++) {
+                    int cell = maze.index(i, j);
+                    if (maze.getType(cell) == Cell.CellType.SOLUTION) {
+                        drawSolutionCell(g2d, cellBounds(cell), true);
+                    }
+                }
+            }
+
+            g2d.setColor(GRID_COLOR);
+            for (int i = firstRow; i <= lastRow; i++) {
+                g2d.drawLine(screenX(firstCol), screenY(i), screenX(lastCol), screenY(i));
+            }
+            for (int j = firstCol; j <= lastCol; j++) {
+                g2d.drawLine(screenX(j), screenY(firstRow), screenX(j), screenY(lastRow));
+            }
+        } finally {
+            g2d.dispose();
+        }
+    }
+
+    // Vue éloignée : un pixel = un bloc de cellules, coloré selon sa densité de murs
+    private void renderDensity(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        // Niveau le plus grossier dont les blocs ne dépassent pas la surface couverte par un pixel
+        int level = 0;
+        while (level + 1 < mipmap.levelCount() && (1 << (level + 1)) <= 1 / scale) {
+            level++;
+        }
+
+        int[] columns = new int[width];
+        for (int x = 0; x < width; x++) {
+            int col = (int) Math.floor(viewX + (x + 0.5) / scale);
+            columns[x] = col < 0 || col >= maze.getCols() ? -1 : col >> level;
+        }
+
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        int background = getBackground().getRGB();
+        for (int y = 0; y < height; y++) {
+            int row = (int) Math.floor(viewY + (y + 0.5) / scale);
+            int offset = y * width;
+            if (row < 0 || row >= maze.getRows()) {
+                Arrays.fill(pixels, offset, offset + width, background);
+                continue;
+            }
+            int levelRow = row >> level;
+            for (int x = 0; x < width; x++) {
+                int levelCol = columns[x];
+                pixels[offset + x] = levelCol < 0 ? background
+                        : DENSITY_PALETTE[mipmap.density(level, levelRow, levelCol)];
+            }
+        }
+    }
+
+    private static int[] densityPalette() {
+        int[] palette = new int[MazeMipmap.OPAQUE + 1];
+        for (int density = 0; density < palette.length; density++) {
+            int red = PATH_COLOR.getRed() + (WALL_COLOR.getRed() - PATH_COLOR.getRed()) * density / MazeMipmap.OPAQUE;
+            int green = PATH_COLOR.getGreen() + (WALL_COLOR.getGreen() - PATH_COLOR.getGreen()) * density / MazeMipmap.OPAQUE;
+            int blue = PATH_COLOR.getBlue() + (WALL_COLOR.getBlue() - PATH_COLOR.getBlue()) * density / MazeMipmap.OPAQUE;
+            palette[density] = (red << 16) | (green << 8) | blue;
+        }
+        return palette;
+    }
+
+    private int screenX(int col) {
+        return (int) Math.floor((col - viewX) * scale);
+    }
+
+    private int screenY(int row) {
+        return (int) Math.floor((row - viewY) * scale);
+    }
+
+    private Rectangle cellBounds(int cell) {
+        int row = maze.rowOf(cell);
+        int col = maze.colOf(cell);
+        int x = screenX(col);
+        int y = screenY(row);
+        return new Rectangle(x, y, Math.max(1, screenX(col + 1) - x), Math.max(1, screenY(row + 1) - y));
+    }
+
+    // Case de départ ou d'arrivée, agrandie autour de son centre pour rester visible en vue éloignée
+    private Rectangle markerBounds(int cell) {
+        Rectangle bounds = cellBounds(cell);
+        if (bounds.width < MIN_MARKER_SIZE || bounds.height < MIN_MARKER_SIZE) {
+            bounds.grow(Math.max(0, (MIN_MARKER_SIZE - bounds.width + 1) / 2),
+                    Math.max(0, (MIN_MARKER_SIZE - bounds.height + 1) / 2));
+        }
+        return bounds;
+    }
+
+    private void drawSpecialCell(Graphics2D g2d, Rectangle bounds, Color color, String text, Font font) {
+        g2d.setColor(color);
+        g2d.fill(bounds);
+        if (bounds.width < MIN_LABEL_SIZE || bounds.height < MIN_LABEL_SIZE) {
+            return;
+        }
+
+        // Cercle blanc
+        g2d.setColor(Color.WHITE);
+        int padding = bounds.width / 6;
+        g2d.fillOval(bounds.x + padding, bounds.y + padding, bounds.width - 2 * padding, bounds.height - 2 * padding);
+
+        // Texte
+        g2d.setColor(color);
+        g2d.setFont(font);
+        FontMetrics fm = g2d.getFontMetrics();
+        int textX = bounds.x + (bounds.width - fm.stringWidth(text)) / 2;
+        int textY = bounds.y + (bounds.height - fm.getHeight()) / 2 + fm.getAscent();
+        g2d.drawString(text, textX, textY);
+    }
+
+    private void drawSolutionCell(Graphics2D g2d, Rectangle bounds, boolean detailed) {
+        g2d.setColor(SOLUTION_COLOR);
+        g2d.fill(bounds);
+        if (!detailed) {
+            return;
+        }
+
+        // Effet de brillance
+        g2d.setColor(SOLUTION_SHINE);
+        g2d.fillRect(bounds.x, bounds.y, bounds.width / 2, bounds.height / 2);
+
+        // Bordure
+        g2d.setColor(SOLUTION_BORDER);
+        g2d.setStroke(SOLUTION_STROKE);
+        g2d.drawRect(bounds.x + 1, bounds.y + 1, bounds.width - 2, bounds.height - 2);
+    }
+}
@@ -0,0 +1,116 @@
+package ui;
+
+import javax.swing.Timer;
+import java.util.function.IntConsumer;
+
+/**
+ * Animation image par image d'un chemin, pilotée par un {@link Timer} Swing : tout se passe
+ * sur le thread de l'interface, sans thread qui dort ni message posté par cellule.
+ * <p>
+ * À chaque image, le nombre de pas dus depuis l'image précédente est calculé à partir du
+ * délai par pas, puis l'affichage est mis à jour une seule fois pour tous ces pas. Un délai
+ * plus court que l'image fait donc avancer plusieurs pas par image à cadence régulière.
+ * En pause, le minuteur est arrêté et l'animation ne consomme rien.
+ */
+class PathAnimator {
+    // Environ 60 images par seconde
+    static final int FRAME_MILLIS = 16;
+
+    private final Timer timer = new Timer(FRAME_MILLIS, e -> onFrame());
+    private final IntConsumer display;
+    private Runnable onFinished;
+    private int totalSteps;
+    private int step;
+    private long stepDelayNanos;
+    // Fraction de pas accumulée entre deux images
+    private double pendingSteps;
+    private long lastFrame;
+    private boolean paused;
+
+    /**
+     * @param display reçoit le nombre de pas à afficher, une fois par image au plus
+     */
+    PathAnimator(IntConsumer display, int stepDelayMillis) {
+        this.display = display;
+        setStepDelay(stepDelayMillis);
+        timer.setCoalesce(true);
+    }
+
+    /**
+     * Démarre une animation de {@code totalSteps} pas ; {@code onFinished} est appelé à la fin.
+     * Si l'animation est en pause, elle ne démarre qu'à la reprise ou pas à pas.
+     */
+    void start(int totalSteps, Runnable onFinished) {
+        this.totalSteps = totalSteps;
+        this.onFinished = onFinished;
+        step = 0;
+        pendingSteps = 0;
+        if (totalSteps == 0) {
+            finish();
+        } else if (!paused) {
+            resume();
+        }
+    }
+
+    void setStepDelay(int millis) {
+        stepDelayNanos = Math.max(1, millis) * 1_000_000L;
+    }
+
+    void pause() {
+        paused = true;
+        timer.stop();
+    }
+
+    void resume() {
+        paused = false;
+        if (isRunning() && !timer.isRunning()) {
+            lastFrame = System.nanoTime();
+            pendingSteps = 0;
+            timer.start();
+        }
+    }
+
+    boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Avance d'un pas, pour le mode pas à pas (l'animation doit être en pause).
+     */
+    void step() {
+        if (isRunning()) {
+            advance(1);
+        }
+    }
+
+    // Vrai tant qu'une animation démarrée n'est pas terminée
+    private boolean isRunning() {
+        return onFinished != null;
+    }
+
+    private void onFrame() {
+        long now = System.nanoTime();
+        pendingSteps += (double) (now - lastFrame) / stepDelayNanos;
+        lastFrame = now;
+        int due = (int) pendingSteps;
+        if (due > 0) {
+            pendingSteps -= due;
+            advance(due);
+        }
+    }
+
+    private void advance(int steps) {
+        step = (int) Math.min(totalSteps, (long) step + steps);
+        display.accept(step);
+        if (step == totalSteps) {
+            finish();
+        }
+    }
+
+    private void finish() {
+        timer.stop();
+        Runnable callback = onFinished;
+        onFinished = null;
+        callback.run();
+    }
+}
@@ -0,0 +1,148 @@
+package utils;
+
+import model.Cell;
+import model.Maze;
+
+import java.io.*;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Format binaire compact des labyrinthes (extension {@value #EXTENSION}) :
+ * <pre>
+ * int   magie "MAZB"
+ * byte  version
+ * int   lignes, colonnes
+ * int   index du départ, index de l'arrivée (-1 si absent)
+ * byte* plan des passages : un bit par cellule, 1 = traversable, bit de poids faible en premier
+ * int   CRC32 de tout ce qui précède
+ * </pre>
+ * Lecture et écriture se font en flux par blocs, sans jamais construire la grille en texte.
+ * À la lecture, le plan (un huitième de la taille de la grille) est vérifié avant que la grille
+ * ne soit allouée.
+ * Seuls les murs, le départ et l'arrivée sont conservés : une case solution redevient un passage.
+ */
+public final class MazeBinaryFormat {
+    public static final String EXTENSION = ".mzb";
+
+    private static final int MAGIC = 0x4D415A42; // "MAZB"
+    private static final byte VERSION = 1;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private MazeBinaryFormat() {
+    }
+
+    public static boolean isBinaryFile(String filename) {
+        return filename.toLowerCase().endsWith(EXTENSION);
+    }
+
+    /**
+     * Écrit le labyrinthe dans le flux donné, qui n'est pas fermé.
+     */
+    public static void write(Maze maze, OutputStream out) throws IOException {
+        BufferedOutputStream buffered = new BufferedOutputStream(out, BUFFER_SIZE);
+        CheckedOutputStream checked = new CheckedOutputStream(buffered, new CRC32());
+        DataOutputStream data = new DataOutputStream(checked);
+
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeInt(maze.getRows());
+        data.writeInt(maze.getCols());
+        data.writeInt(maze.getStartIndex());
+        data.writeInt(maze.getEndIndex());
+
+        int cellCount = maze.getCellCount();
+        byte[] chunk = new byte[BUFFER_SIZE];
+        int length = 0;
+        for (int base = 0; base < cellCount; base += 8) {
+            int bits = 0;
+            int limit = Math.min(8, cellCount - base);
+            // Bit de poids faible pour la première cellule de l'octet
+            for (int bit = 0; bit < limit; bit++) {
+                bits |= (maze.isWalkable(base + bit) ? 1 : 0) << bit;
+            }
+            chunk[length++] = (byte) bits;
+            if (length == chunk.length) {
+                data.write(chunk, 0, length);
+                length = 0;
+            }
+        }
+        data.write(chunk, 0, length);
+        data.flush();
+
+        // La somme de contrôle elle-même n'entre pas dans le calcul
+        new DataOutputStream(buffered).writeInt((int) checked.getChecksum().getValue());
+        buffered.flush();
+    }
+
+    /**
+     * Lit un labyrinthe depuis le flux donné, qui n'est pas fermé.
+     * Lève une {@link IOException} si l'en-tête est invalide ou si la somme de contrôle ne correspond pas.
+     * La mémoire allouée avant cette vérification est bornée par la taille réelle du flux.
+     */
+    public static Maze read(InputStream in) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(in, BUFFER_SIZE);
+        CheckedInputStream checked = new CheckedInputStream(buffered, new CRC32());
+        DataInputStream data = new DataInputStream(checked);
+
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Ce n'est pas un labyrinthe au format binaire");
+        }
+        byte version = data.readByte();
+        if (version != VERSION) {
+            throw new IOException("Version de format non supportée : " + version);
+        }
+        int rows = data.readInt();
+        int cols = data.readInt();
+        if (rows <= 0 || cols <= 0 || (long) rows * cols > Integer.MAX_VALUE) {
+            throw new IOException("Dimensions invalides : " + rows + "x" + cols);
+        }
+        int start = data.readInt();
+        int end = data.readInt();
+
+        int cellCount = rows * cols;
+        if (start < -1 || start >= cellCount || end < -1 || end >= cellCount) {
+            throw new IOException("Position de départ ou d'arrivée invalide");
+        }
+
+        // Le plan est lu et vérifié avant d'allouer la grille : un en-tête corrompu annonçant
+        // des milliards de cellules échoue sur la fin du flux, après n'avoir alloué que les
+        // blocs réellement présents, au lieu de réserver d'emblée une grille de plusieurs Go
+        int planeLength = (int) (((long) cellCount + 7) / 8);
+        byte[][] blocks = new byte[(planeLength + BUFFER_SIZE - 1) / BUFFER_SIZE][];
+        for (int i = 0; i < blocks.length; i++) {
+            blocks[i] = new byte[Math.min(BUFFER_SIZE, planeLength - i * BUFFER_SIZE)];
+            data.readFully(blocks[i]);
+        }
+
+        int expected = (int) checked.getChecksum().getValue();
+        if (new DataInputStream(buffered).readInt() != expected) {
+            throw new IOException("Somme de contrôle invalide : fichier corrompu");
+        }
+
+        // Une grille neuve est entièrement murée : seuls les bits à 1 sont écrits
+        Maze maze = new Maze(rows, cols);
+        int base = 0;
+        for (byte[] block : blocks) {
+            for (int i = 0; i < block.length; i++, base += 8) {
+                int bits = block[i] & 0xFF;
+                while (bits != 0) {
+                    int index = base + Integer.numberOfTrailingZeros(bits);
+                    if (index < cellCount) {
+                        maze.setCell(index, Cell.CellType.PATH);
+                    }
+                    bits &= bits - 1;
+                }
+            }
+        }
+
+        if (start >= 0) {
+            maze.setCell(start, Cell.CellType.START);
+        }
+        if (end >= 0) {
+            maze.setCell(end, Cell.CellType.END);
+        }
+        return maze;
+    }
+}
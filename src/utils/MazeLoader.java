@@ -3,41 +3,153 @@ package utils;
 import model.Cell;
 import model.Maze;
 import java.io.*;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Random;
 
 public class MazeLoader {
+    private static final int CHUNK_SIZE = 1 << 16;
+    // Code de cellule de chaque octet lu, les caractères inconnus étant des murs
+    private static final byte[] CODE_BY_BYTE = new byte[256];
+
+    static {
+        for (int b = 0; b < CODE_BY_BYTE.length; b++) {
+            CODE_BY_BYTE[b] = Cell.CellType.fromSymbol((char) b).getCode();
+        }
+    }
+
+    /**
+     * Charge un labyrinthe texte par blocs de {@value #CHUNK_SIZE} octets lus dans un même
+     * tampon : les octets sont décodés ligne par ligne et écrits en une fois dans la grille,
+     * sans passer par des lignes {@code String}. Un premier parcours mesure les dimensions
+     * (nombre de lignes, longueur de la première), le second remplit la grille et repère le
+     * départ et l'arrivée. Les lignes trop courtes sont complétées par des murs, les caractères
+     * en trop sont ignorés. Les fins de ligne \n, \r\n et \r sont acceptées.
+     * <p>
+     * Le fichier n'est pas projeté en mémoire : sous Windows une projection garde le fichier
+     * verrouillé jusqu'au passage du ramasse-miettes, ce qui empêcherait de le réécrire aussitôt.
+     * Un fichier d'extension {@value MazeBinaryFormat#EXTENSION} est lu au format binaire.
+     */
     public static Maze loadFromFile(String filename) throws IOException {
-        List<String> lines = new ArrayList<>();
-        try (BufferedReader reader = new BufferedReader(new FileReader(filename))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                lines.add(line);
+        if (MazeBinaryFormat.isBinaryFile(filename)) {
+            try (InputStream in = new FileInputStream(filename)) {
+                return MazeBinaryFormat.read(in);
+            }
+        }
+        try (FileChannel channel = FileChannel.open(Paths.get(filename), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+            int[] size = scan(channel, buffer, null);
+            if (size[0] == 0 || size[1] == 0) {
+                throw new IOException("Le fichier " + filename + " ne contient pas de labyrinthe");
             }
+            Maze maze = new Maze(size[0], size[1]);
+            scan(channel, buffer, maze);
+            return maze;
         }
+    }
 
-        int rows = lines.size();
-        int cols = lines.get(0).length();
-        Maze maze = new Maze(rows, cols);
+    // Parcourt le fichier par blocs ; remplit la grille si maze n'est pas null.
+    // Renvoie {nombre de lignes, longueur de la première ligne}
+    private static int[] scan(FileChannel channel, ByteBuffer buffer, Maze maze) throws IOException {
+        int row = 0;
+        int col = 0;
+        int firstLength = -1;
+        boolean afterCarriageReturn = false;
+        // Codes de la ligne en cours, écrits dans la grille à chaque fin de ligne
+        byte[] line = maze == null ? null : new byte[maze.getCols()];
+        byte[] chunk = buffer.array();
 
-        for (int i = 0; i < rows; i++) {
-            String line = lines.get(i);
-            for (int j = 0; j < cols; j++) {
-                maze.setCell(i, j, Cell.CellType.fromSymbol(line.charAt(j)));
+        long position = 0;
+        int length;
+        while ((length = readChunk(channel, buffer, position)) > 0) {
+            position += length;
+            for (int i = 0; i < length; i++) {
+                byte b = chunk[i];
+                if (b == '\n' && afterCarriageReturn) {
+                    // Fin de ligne Windows \r\n : la ligne a déjà été terminée par \r
+                    afterCarriageReturn = false;
+                    continue;
+                }
+                afterCarriageReturn = b == '\r';
+                if (b == '\n' || b == '\r') {
+                    if (firstLength < 0) {
+                        firstLength = col;
+                    }
+                    if (line != null) {
+                        maze.setCodes(maze.index(row, 0), line, 0, Math.min(col, line.length));
+                    }
+                    row++;
+                    col = 0;
+                    continue;
+                }
+                if (line != null && col < line.length) {
+                    line[col] = CODE_BY_BYTE[b & 0xFF];
+                }
+                col++;
             }
         }
 
-        return maze;
+        // Dernière ligne sans retour à la ligne final
+        if (col > 0) {
+            if (firstLength < 0) {
+                firstLength = col;
+            }
+            if (line != null) {
+                maze.setCodes(maze.index(row, 0), line, 0, Math.min(col, line.length));
+            }
+            row++;
+        }
+        return new int[]{row, Math.max(firstLength, 0)};
+    }
+
+    // Lit le bloc suivant au début du tampon ; renvoie sa taille, 0 en fin de fichier
+    private static int readChunk(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        buffer.clear();
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                break;
+            }
+        }
+        return buffer.position();
     }
 
+    /**
+     * Sauvegarde ligne par ligne, sans construire la grille entière en mémoire.
+     * Le format binaire est choisi d'après l'extension {@value MazeBinaryFormat#EXTENSION}.
+     */
     public static void saveToFile(Maze maze, String filename) throws IOException {
-        try (PrintWriter writer = new PrintWriter(new FileWriter(filename))) {
-            writer.print(maze.toString());
+        if (MazeBinaryFormat.isBinaryFile(filename)) {
+            try (OutputStream out = new FileOutputStream(filename)) {
+                MazeBinaryFormat.write(maze, out);
+            }
+            return;
+        }
+        try (Writer writer = new BufferedWriter(new FileWriter(filename), 1 << 16)) {
+            char[] line = new char[maze.getCols() + 1];
+            line[maze.getCols()] = '\n';
+            for (int i = 0; i < maze.getRows(); i++) {
+                int base = maze.index(i, 0);
+                for (int j = 0; j < maze.getCols(); j++) {
+                    line[j] = maze.getType(base + j).getSymbol();
+                }
+                writer.write(line);
+            }
         }
     }
 
     public static Maze generateRandom(int rows, int cols, double wallDensity) {
+        return generateRandom(rows, cols, wallDensity, new Random());
+    }
+
+    // Même génération avec une graine fixe, pour des labyrinthes reproductibles
+    public static Maze generateRandom(int rows, int cols, double wallDensity, long seed) {
+        return generateRandom(rows, cols, wallDensity, new Random(seed));
+    }
+
+    private static Maze generateRandom(int rows, int cols, double wallDensity, Random random) {
         if (rows < 3 || cols < 3) {
             throw new IllegalArgumentException("Le labyrinthe doit être au moins de taille 3x3");
         }
@@ -47,7 +159,6 @@ public class MazeLoader {
         }
 
         Maze maze = new Maze(rows, cols);
-        Random random = new Random();
 
         // Remplir avec des passages d'abord
         for (int i = 0; i < rows; i++) {
@@ -79,77 +190,76 @@ public class MazeLoader {
         int availableCells = innerCells - 2; // Soustraire S et E
         int wallsToAdd = (int)(availableCells * wallDensity);
 
-        // Liste des positions disponibles pour les murs
-        List<int[]> availablePositions = new ArrayList<>();
+        // Positions disponibles pour les murs : cellules intérieures hors S et E
+        int[] availablePositions = new int[innerCells];
+        int availableCount = 0;
+        int start = maze.index(startRow, 1);
+        int end = maze.index(endRow, cols-2);
         for (int i = 1; i < rows-1; i++) {
             for (int j = 1; j < cols-1; j++) {
-                Cell cell = maze.getCell(i, j);
-                if (cell.getType() != Cell.CellType.START && 
-                    cell.getType() != Cell.CellType.END) {
-                    availablePositions.add(new int[]{i, j});
+                int index = maze.index(i, j);
+                if (index != start && index != end) {
+                    availablePositions[availableCount++] = index;
                 }
             }
         }
 
-        // Mélanger les positions disponibles
-        for (int i = availablePositions.size() - 1; i > 0; i--) {
-            int j = random.nextInt(i + 1);
-            int[] temp = availablePositions.get(i);
-            availablePositions.set(i, availablePositions.get(j));
-            availablePositions.set(j, temp);
-        }
-
-        // Ajouter les murs
-        int wallsAdded = 0;
-        for (int[] pos : availablePositions) {
-            if (wallsAdded >= wallsToAdd) break;
-            
-            int row = pos[0];
-            int col = pos[1];
-            
-            // Ne pas bloquer complètement le chemin entre S et E
-            maze.setCell(row, col, Cell.CellType.WALL);
-            if (!ensurePathExists(maze, startRow, 1, endRow, cols-2)) {
-                maze.setCell(row, col, Cell.CellType.PATH);
-            } else {
-                wallsAdded++;
+        // Tirage sans remise (mélange partiel de Fisher-Yates) des positions des murs
+        int drawn = 0;
+        int wallsAdded = Math.min(wallsToAdd, availableCount);
+        for (; drawn < wallsAdded; drawn++) {
+            int index = drawPosition(availablePositions, drawn, availableCount, random);
+            maze.setCell(maze.rowOf(index), maze.colOf(index), Cell.CellType.WALL);
+        }
+
+        // Une seule vérification de connexité. Si S et E sont séparés, on ouvre un couloir
+        // aléatoire entre eux et on replace ailleurs les murs retirés pour garder la densité
+        if (!maze.isReachable(start, end)) {
+            boolean[] reserved = new boolean[maze.getCellCount()];
+            carveCorridor(maze, reserved, startRow, endRow, random);
+            int removed = 0;
+            for (int index = 0; index < reserved.length; index++) {
+                if (reserved[index] && maze.getType(index) == Cell.CellType.WALL) {
+                    maze.setCell(maze.rowOf(index), maze.colOf(index), Cell.CellType.PATH);
+                    removed++;
+                }
+            }
+            for (; removed > 0 && drawn < availableCount; drawn++) {
+                int index = drawPosition(availablePositions, drawn, availableCount, random);
+                if (!reserved[index]) {
+                    maze.setCell(maze.rowOf(index), maze.colOf(index), Cell.CellType.WALL);
+                    removed--;
+                }
             }
         }
 
         return maze;
     }
 
-    private static boolean ensurePathExists(Maze maze, int startRow, int startCol, int endRow, int endCol) {
-        // Vérifier si un chemin existe déjà en utilisant DFS
-        boolean[][] visited = new boolean[maze.getRows()][maze.getCols()];
-        return dfsPathCheck(maze, startRow, startCol, endRow, endCol, visited);
+    // Échange une position tirée au hasard parmi [drawn, count) en position drawn et la renvoie
+    private static int drawPosition(int[] positions, int drawn, int count, Random random) {
+        int j = drawn + random.nextInt(count - drawn);
+        int index = positions[j];
+        positions[j] = positions[drawn];
+        positions[drawn] = index;
+        return index;
     }
 
-    private static boolean dfsPathCheck(Maze maze, int row, int col, int endRow, int endCol, boolean[][] visited) {
-        if (row == endRow && col == endCol) {
-            return true;
-        }
-
-        visited[row][col] = true;
-        int[][] directions = {{-1,0}, {1,0}, {0,-1}, {0,1}}; // haut, bas, gauche, droite
-
-        for (int[] dir : directions) {
-            int newRow = row + dir[0];
-            int newCol = col + dir[1];
-            if (isValidMove(maze, newRow, newCol, visited)) {
-                if (dfsPathCheck(maze, newRow, newCol, endRow, endCol, visited)) {
-                    return true;
-                }
+    // Chemin monotone de (startRow, 1) à (endRow, cols-2) : vers la droite ou vers la ligne d'arrivée
+    private static void carveCorridor(Maze maze, boolean[] reserved, int startRow, int endRow, Random random) {
+        int endCol = maze.getCols() - 2;
+        int row = startRow;
+        int col = 1;
+        reserved[maze.index(row, col)] = true;
+        while (row != endRow || col != endCol) {
+            boolean moveRight = row == endRow || (col != endCol && random.nextBoolean());
+            if (moveRight) {
+                col++;
+            } else {
+                row += Integer.signum(endRow - row);
             }
+            reserved[maze.index(row, col)] = true;
         }
-        return false;
-    }
-
-    private static boolean isValidMove(Maze maze, int row, int col, boolean[][] visited) {
-        return row > 0 && row < maze.getRows()-1 && 
-               col > 0 && col < maze.getCols()-1 && 
-               !visited[row][col] && 
-               maze.getCell(row, col).isWalkable();
     }
 
     private static boolean isAdjacentToStartOrEnd(Maze maze, int row, int col) {